@@ -0,0 +1,103 @@
+package seedu.trackermon.logic.commands;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.trackermon.logic.commands.FindCommand.FindShowDescriptor;
+import seedu.trackermon.model.Model;
+import seedu.trackermon.model.ModelManager;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.UserPrefs;
+import seedu.trackermon.model.show.Comment;
+import seedu.trackermon.model.show.Name;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.Status;
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Measures the time taken to preview a name find as it is typed, which must fit in a frame (16ms) to be shown live.
+ * Run with {@code gradlew jmh}. {@code previewInFull} checks every show, as for the first keystroke of a find,
+ * while {@code previewByRefining} extends the keyword of the last preview, as for every later keystroke.
+ * {@code execute} runs the same find as a command, which refilters the model's filtered show list, as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FindPreviewBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    /** The name keyword of the last preview, which the previewed find extends by one letter. */
+    @Param({"a", "ab"})
+    private String previousKeyword;
+
+    private Model model;
+    private FindCommand previousFind;
+    private FindCommand find;
+    private FindCommand.Preview previousPreview;
+
+    /**
+     * Creates {@code size} shows with random names, statuses, ratings and tags, and previews the previous find.
+     */
+    @Setup(Level.Trial)
+    public void createShows() {
+        Random random = new Random(size);
+        Status[] statuses = Status.values();
+        ShowList showList = new ShowList();
+        for (int i = 0; i < size; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                tags.add(new Tag("tag" + random.nextInt(50)));
+            }
+            showList.addShow(new Show(new Name("Show " + i + Integer.toString(random.nextInt(), 36).replace('-', 'x')),
+                    statuses[random.nextInt(statuses.length)], tags, new Comment(""),
+                    new Rating(random.nextInt(Rating.MAX_RATING + 1))));
+        }
+        model = new ModelManager(showList, new UserPrefs());
+        previousFind = findName(previousKeyword);
+        find = findName(previousKeyword + "c");
+        previousPreview = previousFind.preview(model, null, () -> false);
+    }
+
+    private static FindCommand findName(String keyword) {
+        FindShowDescriptor descriptor = new FindShowDescriptor();
+        descriptor.setNameKeywords(List.of(keyword));
+        return new FindCommand(descriptor);
+    }
+
+    @Benchmark
+    public FindCommand.Preview previewInFull() {
+        return find.preview(model, null, () -> false);
+    }
+
+    @Benchmark
+    public FindCommand.Preview previewByRefining() {
+        return find.preview(model, previousPreview, () -> false);
+    }
+
+    @Benchmark
+    public CommandResult execute() {
+        return find.execute(model);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.trackermon.model.show;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Measures the cost of sorting shows with the comparators in {@code model.show}.
+ * Run with {@code gradlew jmh}; the gc profiler reports the allocation rate of each benchmark.
+ * {@code sortByUpperCasedName} reproduces the old per-comparison {@code toUpperCase()} as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShowSortBenchmark {
+
+    private static final Comparator<Show> UPPER_CASED_NAME_COMPARATOR = (show, other) ->
+            show.getName().name.toUpperCase().compareTo(other.getName().name.toUpperCase());
+
+    private static final Comparator<Show> ALL_FIELDS_COMPARATOR = new NameComparator()
+            .thenComparing(new StatusComparator())
+            .thenComparing(new RatingComparator().reversed())
+            .thenComparing(new TagComparator());
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Show[] shows;
+    private Show[] toSort;
+
+    /**
+     * Creates {@code size} shows with random names, statuses, ratings and tags.
+     */
+    @Setup(Level.Trial)
+    public void createShows() {
+        Random random = new Random(size);
+        Status[] statuses = Status.values();
+        shows = new Show[size];
+        for (int i = 0; i < size; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                tags.add(new Tag("tag" + random.nextInt(50)));
+            }
+            shows[i] = new Show(new Name("Show " + Integer.toString(random.nextInt(), 36).replace('-', 'x')),
+                    statuses[random.nextInt(statuses.length)], tags, new Comment(""),
+                    new Rating(random.nextInt(Rating.MAX_RATING + 1)));
+        }
+        toSort = new Show[size];
+    }
+
+    /**
+     * Restores the unsorted order before every invocation, so the copy is not measured.
+     */
+    @Setup(Level.Invocation)
+    public void resetOrder() {
+        System.arraycopy(shows, 0, toSort, 0, size);
+    }
+
+    @Benchmark
+    public Show[] sortByUpperCasedName() {
+        Arrays.sort(toSort, UPPER_CASED_NAME_COMPARATOR);
+        return toSort;
+    }
+
+    @Benchmark
+    public Show[] sortByName() {
+        Arrays.sort(toSort, new NameComparator());
+        return toSort;
+    }
+
+    @Benchmark
+    public Show[] sortByAllFields() {
+        Arrays.sort(toSort, ALL_FIELDS_COMPARATOR);
+        return toSort;
+    }
+}
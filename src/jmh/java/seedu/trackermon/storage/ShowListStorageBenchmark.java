@@ -0,0 +1,118 @@
+package seedu.trackermon.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.model.ReadOnlyShowList;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Comment;
+import seedu.trackermon.model.show.Name;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.Status;
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Compares the time taken to load and save show lists with {@code JsonShowListStorage} and
+ * {@code BinaryShowListStorage}. Run with {@code gradlew jmh}; the gc profiler reports the allocation rate of each
+ * benchmark. Load benchmarks read files that are written once per trial, so only reading is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ShowListStorageBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private Path folder;
+    private ShowList showList;
+    private JsonShowListStorage jsonStorage;
+    private BinaryShowListStorage binaryStorage;
+    private JsonShowListStorage jsonSaveStorage;
+    private BinaryShowListStorage binarySaveStorage;
+
+    /**
+     * Creates {@code size} shows with random statuses, ratings, tags and comments, and writes them in both formats.
+     */
+    @Setup(Level.Trial)
+    public void createShowList() throws IOException {
+        Random random = new Random(size);
+        Status[] statuses = Status.values();
+        showList = new ShowList();
+        for (int i = 0; i < size; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                tags.add(new Tag("tag" + random.nextInt(50)));
+            }
+            String comment = "Comment ".repeat(random.nextInt(20));
+            showList.addShow(new Show(new Name("Show " + i), statuses[random.nextInt(statuses.length)], tags,
+                    new Comment(comment), new Rating(random.nextInt(Rating.MAX_RATING + 1))));
+        }
+
+        folder = Files.createTempDirectory("ShowListStorageBenchmark");
+        jsonStorage = new JsonShowListStorage(folder.resolve("load.json"));
+        binaryStorage = new BinaryShowListStorage(folder.resolve("load.bin"));
+        jsonSaveStorage = new JsonShowListStorage(folder.resolve("save.json"));
+        binarySaveStorage = new BinaryShowListStorage(folder.resolve("save.bin"));
+        jsonStorage.saveShowList(showList);
+        binaryStorage.saveShowList(showList);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyShowList loadJson() throws DataConversionException {
+        return jsonStorage.readShowList().get();
+    }
+
+    @Benchmark
+    public ReadOnlyShowList loadBinary() throws DataConversionException {
+        return binaryStorage.readShowList().get();
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonSaveStorage.saveShowList(showList);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binarySaveStorage.saveShowList(showList);
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.trackermon.ui;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.trackermon.model.show.Comment;
+import seedu.trackermon.model.show.Name;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.Status;
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Measures the time taken on the JavaFX application thread to lay out one frame of a list of 100k shows while it
+ * is being scrolled, with the cells in {@code ShowListPanel} and with cells that build a new {@code ShowCard}
+ * whenever they are given a show, as the cells did before. Scrolling by a few rows reuses most of the cells
+ * at their current index, while scrolling by a page, as when dragging the scroll bar, gives every cell a new show.
+ * Run with {@code gradlew jmh} on a machine with a display, since a window is shown.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShowListScrollBenchmark {
+
+    private static final int SHOW_COUNT = 100000;
+    private static final double WINDOW_WIDTH = 800;
+    private static final double WINDOW_HEIGHT = 1000;
+
+    @Param({"reused", "rebuilt"})
+    private String cells;
+
+    @Param({"3", "30"})
+    private int rowsPerFrame;
+
+    private Stage stage;
+    private ListView<Show> listView;
+    private int firstRow;
+
+    /**
+     * Starts JavaFX, and shows a window with a list of {@code SHOW_COUNT} shows with random statuses, ratings
+     * and tags.
+     */
+    @Setup(Level.Trial)
+    public void showList() throws Exception {
+        Platform.startup(() -> {});
+        Random random = new Random(SHOW_COUNT);
+        Status[] statuses = Status.values();
+        List<Show> shows = new ArrayList<>(SHOW_COUNT);
+        for (int i = 0; i < SHOW_COUNT; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                tags.add(new Tag("tag" + random.nextInt(50)));
+            }
+            shows.add(new Show(new Name("Show " + i), statuses[random.nextInt(statuses.length)], tags,
+                    new Comment(""), new Rating(random.nextInt(Rating.MAX_RATING + 1))));
+        }
+
+        runOnFxThread(() -> {
+            listView = new ListView<>(FXCollections.observableArrayList(shows));
+            listView.setCellFactory(unused -> cells.equals("reused")
+                    ? new ShowListPanel.ShowListViewCell()
+                    : new RebuiltShowListViewCell());
+            stage = new Stage();
+            stage.setScene(new Scene(listView, WINDOW_WIDTH, WINDOW_HEIGHT));
+            stage.show();
+        });
+    }
+
+    /**
+     * Closes the window and stops JavaFX.
+     */
+    @TearDown(Level.Trial)
+    public void closeList() throws Exception {
+        runOnFxThread(() -> stage.hide());
+        Platform.exit();
+    }
+
+    /**
+     * Scrolls down by {@code rowsPerFrame} rows, wrapping around at the end of the list, and lays out the list
+     * as the next frame would.
+     */
+    @Benchmark
+    public void scrollOneFrame() throws Exception {
+        runOnFxThread(() -> {
+            firstRow = (firstRow + rowsPerFrame) % SHOW_COUNT;
+            listView.scrollTo(firstRow);
+            listView.applyCss();
+            listView.layout();
+        });
+    }
+
+    private static void runOnFxThread(Runnable runnable) throws InterruptedException, ExecutionException {
+        FutureTask<Void> task = new FutureTask<>(runnable, null);
+        Platform.runLater(task);
+        task.get();
+    }
+
+    /**
+     * A cell that creates a new {@code ShowCard} every time it is given a show, as a baseline.
+     */
+    private static class RebuiltShowListViewCell extends ListCell<Show> {
+        @Override
+        protected void updateItem(Show show, boolean empty) {
+            super.updateItem(show, empty);
+
+            if (empty || show == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new ShowCard(show, getIndex() + 1).getRoot());
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.trackermon;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import seedu.trackermon.commons.core.Config;
+import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.commons.util.ConfigUtil;
+import seedu.trackermon.logic.Logic;
+import seedu.trackermon.logic.LogicManager;
+import seedu.trackermon.logic.commands.ExitCommand;
+import seedu.trackermon.logic.commands.ExportCommand;
+import seedu.trackermon.logic.commands.ImportCommand;
+import seedu.trackermon.logic.commands.exceptions.CommandException;
+import seedu.trackermon.logic.parser.exceptions.ParseException;
+import seedu.trackermon.model.ModelManager;
+import seedu.trackermon.model.ReadOnlyShowList;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.UserPrefs;
+import seedu.trackermon.storage.BatchedShowListStorage;
+import seedu.trackermon.storage.JsonUserPrefsStorage;
+import seedu.trackermon.storage.Storage;
+import seedu.trackermon.storage.StorageManager;
+
+/**
+ * Runs Trackermon commands from a file, or from standard input, without starting the UI.
+ * Run with {@code gradlew runBatch --args="[--save-every <number of saves>] [commands file]"}.
+ * Each line is one command, as it would be entered in the command box; blank lines and lines starting with
+ * {@code #} are skipped, and {@code exit} stops the run. Commands that fail are reported with their line number and
+ * skipped. The show list is saved once the commands have run, or also after every given number of commands that
+ * change it.
+ */
+public class BatchRunner {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: BatchRunner [--save-every <number of saves>] [commands file]";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands in %2$d ms (%3$d commands/s), %4$d failed";
+    public static final String MESSAGE_FAILED_COMMAND = "Line %1$d: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_COMMAND = "%1$s is not supported when running commands from a file";
+    public static final String SAVE_INTERVAL_OPTION = "--save-every";
+    public static final String COMMENT_PREFIX = "#";
+
+    // Both open a file chooser
+    private static final Set<String> UNSUPPORTED_COMMAND_WORDS =
+            Set.of(ImportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD);
+
+    private final Logic logic;
+    private final Storage storage;
+    private final PrintStream errorStream;
+    private int commandCount;
+    private int failureCount;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands with {@code logic}, flushes {@code storage} once they
+     * have run, and reports commands that fail to {@code errorStream}.
+     */
+    public BatchRunner(Logic logic, Storage storage, PrintStream errorStream) {
+        requireNonNull(logic);
+        requireNonNull(storage);
+        requireNonNull(errorStream);
+        this.logic = logic;
+        this.storage = storage;
+        this.errorStream = errorStream;
+    }
+
+    /**
+     * Executes each command read from {@code reader}, until it has no more lines or an {@code exit} command is read,
+     * and then flushes the storage so that every change to the show list is saved.
+     *
+     * @throws IOException if the commands could not be read, or the show list could not be saved.
+     */
+    public void run(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                String commandWord = getCommandWord(commandText);
+                if (commandWord.equals(ExitCommand.COMMAND_WORD)) {
+                    break;
+                }
+
+                commandCount++;
+                if (UNSUPPORTED_COMMAND_WORDS.contains(commandWord)) {
+                    reportFailure(lineNumber, String.format(MESSAGE_UNSUPPORTED_COMMAND, commandWord));
+                    continue;
+                }
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    reportFailure(lineNumber, e.getMessage());
+                }
+            }
+        } finally {
+            storage.flushShowList();
+        }
+    }
+
+    /**
+     * Returns the number of commands run so far, including those that failed.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands that failed so far.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    private void reportFailure(int lineNumber, String message) {
+        failureCount++;
+        errorStream.println(String.format(MESSAGE_FAILED_COMMAND, lineNumber, message));
+    }
+
+    /**
+     * Returns the first word of {@code commandText}, which has no leading whitespace.
+     */
+    private static String getCommandWord(String commandText) {
+        int end = 0;
+        while (end < commandText.length() && !Character.isWhitespace(commandText.charAt(end))) {
+            end++;
+        }
+        return commandText.substring(0, end);
+    }
+
+    /**
+     * Runs the commands in the file given in {@code args}, or from standard input, on the data file chosen in the
+     * user prefs, and exits with a non-zero status if any of them failed or the show list could not be saved.
+     */
+    public static void main(String[] args) {
+        int saveInterval = 0;
+        Path commandsFile = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(SAVE_INTERVAL_OPTION) && i + 1 < args.length) {
+                    saveInterval = Integer.parseInt(args[++i]);
+                    if (saveInterval <= 0) {
+                        throw new IllegalArgumentException();
+                    }
+                } else if (commandsFile == null && !args[i].startsWith("-")) {
+                    commandsFile = Paths.get(args[i]);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        // Every command is logged at INFO, which would slow down a long run of commands
+        Config config = readConfig();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        Storage storage;
+        ModelManager model;
+        try {
+            UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+            storage = new StorageManager(new BatchedShowListStorage(
+                    StorageManager.createShowListStorage(userPrefs), saveInterval), userPrefsStorage);
+            // The data file is not replaced by an empty show list if it cannot be read
+            ReadOnlyShowList showList = storage.readLatestValidShowList().orElseGet(ShowList::new);
+            model = new ModelManager(showList, userPrefs);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not read the data to run commands on: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        Logic logic = new LogicManager(model, storage);
+        BatchRunner runner = new BatchRunner(logic, storage, System.err);
+        long start = System.nanoTime();
+        try (BufferedReader reader = commandsFile == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(commandsFile)) {
+            runner.run(reader);
+        } catch (IOException e) {
+            System.err.println("Stopped running commands: " + e.getMessage());
+            System.exit(1);
+            return;
+        } finally {
+            logic.shutdown();
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        System.out.println(String.format(MESSAGE_SUMMARY, runner.getCommandCount(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                runner.getCommandCount() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos, runner.getFailureCount()));
+        if (runner.getFailureCount() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the {@code Config} in the default config file, or the default config if it cannot be read.
+     * Unlike the application, the config file is not written back.
+     */
+    private static Config readConfig() {
+        try {
+            return ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElseGet(Config::new);
+        } catch (DataConversionException e) {
+            System.err.println("Config file at " + Config.DEFAULT_CONFIG_FILE + " is not in the correct format. "
+                    + "Using default config properties");
+            return new Config();
+        }
+    }
+}
@@ -23,12 +23,11 @@ import seedu.trackermon.model.ReadOnlyUserPrefs;
 import seedu.trackermon.model.ShowList;
 import seedu.trackermon.model.UserPrefs;
 import seedu.trackermon.model.util.SampleDataUtil;
-import seedu.trackermon.storage.JsonShowListStorage;
 import seedu.trackermon.storage.JsonUserPrefsStorage;
-import seedu.trackermon.storage.ShowListStorage;
 import seedu.trackermon.storage.Storage;
 import seedu.trackermon.storage.StorageManager;
 import seedu.trackermon.storage.UserPrefsStorage;
+import seedu.trackermon.storage.WriteBehindShowListStorage;
 import seedu.trackermon.ui.Ui;
 import seedu.trackermon.ui.UiManager;
 
@@ -61,7 +60,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ShowListStorage showListStorage = new JsonShowListStorage(userPrefs.getShowListFilePath());
+        WriteBehindShowListStorage showListStorage = new WriteBehindShowListStorage(
+                StorageManager.createShowListStorage(userPrefs));
         storage = new StorageManager(showListStorage, userPrefsStorage);
 
         initLogging(config);
@@ -71,6 +71,7 @@ public class MainApp extends Application {
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        showListStorage.setSaveFailureHandler(ui::showSaveFailure);
 
         if (!Files.exists(storage.getShowListFilePath())) {
             storage.saveShowList(model.getShowList());
@@ -79,14 +80,16 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s show list and {@code userPrefs}. <br>
-     * The data from the sample show list will be used instead if {@code storage}'s show list is not found,
-     * or an empty show list will be used instead if errors occur when reading {@code storage}'s show list.
+     * The newest previous version of {@code storage}'s show list that can be read will be used instead
+     * if {@code storage}'s show list is missing or cannot be read. <br>
+     * The data from the sample show list will be used instead if no version of {@code storage}'s show list is found,
+     * or an empty show list will be used instead if errors occur when reading every version of it.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyShowList> showListOptional;
         ReadOnlyShowList initialData;
         try {
-            showListOptional = storage.readShowList();
+            showListOptional = storage.readLatestValidShowList();
             if (!showListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample ShowList");
             }
@@ -190,10 +193,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Trackermon ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushShowList();
+        } catch (IOException e) {
+            logger.severe("Failed to save show list " + StringUtil.getDetails(e));
+        }
     }
 }
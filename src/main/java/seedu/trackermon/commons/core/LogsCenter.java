@@ -27,13 +27,20 @@ public class LogsCenter {
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The handlers shared by every logger are changed to the new level, including handlers created before this
+     * initialization, and so is the root logger, so that messages below the level are discarded before they are
+     * formatted.
      * @param config the config object being specified.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        Logger.getLogger("").setLevel(currentLogLevel);
+        if (consoleHandler != null) {
+            consoleHandler.setLevel(currentLogLevel);
+        }
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
@@ -0,0 +1,11 @@
+package seedu.trackermon.commons.core;
+
+/**
+ * Represents the format that the show list is saved to the data file in.
+ */
+public enum ShowListFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+    /** Compact binary format, which is smaller and faster to load and save than json. */
+    BINARY
+}
@@ -3,6 +3,8 @@ package seedu.trackermon.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -100,6 +105,34 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Creates a parser that reads JSON data from the given stream one token at a time,
+     * so that large documents can be converted piece by piece without being held in memory at once.
+     * Values read with {@link JsonParser#readValueAs(Class)} are converted the same way as in
+     * {@link #fromJsonString(String, Class)}. The stream is not closed when the parser is closed.
+     * @param inputStream The stream of JSON data to be read
+     * @return A parser positioned before the first token in the stream
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return objectMapper.getFactory().createParser(inputStream).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * Creates a generator that writes JSON data to the given stream as it is generated,
+     * so that large documents can be written piece by piece without being held in memory at once.
+     * Values written with {@link JsonGenerator#writeObject(Object)} are converted the same way as in
+     * {@link #toJsonString(Object)}. The stream is not closed when the generator is closed.
+     * @param outputStream The stream to write the JSON data to
+     * @param isPrettyPrinted Whether the JSON data should be indented over multiple lines
+     * @return A generator that writes UTF-8 encoded JSON data to the stream
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +143,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -6,6 +6,7 @@ import static seedu.trackermon.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -53,11 +54,11 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim().toLowerCase();
+        String preppedWord = word.trim().toLowerCase(Locale.ROOT);
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence.trim().toLowerCase();
+        String preppedSentence = sentence.trim().toLowerCase(Locale.ROOT);
 
         return preppedSentence.contains(preppedWord);
     }
@@ -1,6 +1,7 @@
 package seedu.trackermon.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.trackermon.commons.core.GuiSettings;
@@ -24,6 +25,37 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a worker thread, once every command given before it has finished.
+     * The filtered show list is updated, and the returned future is completed, on the JavaFX application thread.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which fails with a {@code CommandException} or
+     *     {@code ParseException} if the command fails, or is cancelled if the command is cancelled before it runs.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Shows the result of the find command being typed as {@code commandText} in the filtered show list, without
+     * executing it. Previews are run on the same worker thread as commands, after them, and a preview is cancelled
+     * once a later preview or command is given. Text that is not a find command restores the filtered show list.
+     * @param commandText The command being typed by the user.
+     * @return the result the command would have, which fails with a {@code ParseException} if the text is not a
+     *     valid find command, or is cancelled if the preview is no longer needed.
+     */
+    CompletableFuture<CommandResult> previewAsync(String commandText);
+
+    /**
+     * Cancels every command given to {@link #executeAsync(String)} that has not started running.
+     * A command that is already running is left to finish, so that the show list and data file stay consistent.
+     * @return the number of commands cancelled.
+     */
+    int cancelPendingCommands();
+
+    /**
+     * Cancels the pending commands, and waits for the running command to finish.
+     */
+    void shutdown();
+
     /**
      * Returns the ShowList.
      *
@@ -31,10 +63,14 @@ public interface Logic {
      */
     ReadOnlyShowList getShowList();
 
-    /** Returns an unmodifiable view of the filtered list of shows */
+    /**
+     * Returns an unmodifiable view of the filtered list of shows, as it was when the last command finished.
+     */
     ObservableList<Show> getFilteredShowList();
 
-    /** Returns an unmodifiable view of the sorted list of shows */
+    /**
+     * Returns an unmodifiable view of the sorted list of shows, as it was when the last command finished.
+     */
     ObservableList<Show> getSortedShowList();
 
     /**
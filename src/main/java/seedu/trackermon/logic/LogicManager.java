@@ -2,15 +2,31 @@ package seedu.trackermon.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.core.Messages;
 import seedu.trackermon.commons.exceptions.DataConversionException;
 import seedu.trackermon.logic.commands.Command;
 import seedu.trackermon.logic.commands.CommandResult;
+import seedu.trackermon.logic.commands.FindCommand;
 import seedu.trackermon.logic.commands.exceptions.CommandException;
 import seedu.trackermon.logic.parser.TrackermonParser;
 import seedu.trackermon.logic.parser.exceptions.ParseException;
@@ -21,15 +37,34 @@ import seedu.trackermon.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands given to {@link #executeAsync(String)} are run one at a time, in the order they were given, on a worker
+ * thread, so that a long command does not freeze the UI. The model is only used from that thread while it runs.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_SAVE_ERROR_MESSAGE = "Could not save data to file: ";
     public static final String FILE_OPS_READ_ERROR_MESSAGE = "Could not read import data: File may be corrupted.";
+    public static final String MESSAGE_NOT_PREVIEWABLE = "Only find commands can be previewed";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TrackermonParser parser;
+    private final ExecutorService commandWorker;
+    private final Executor uiExecutor;
+    private final PublishedShowList publishedShows = new PublishedShowList();
+    private final PublishedShowList publishedSortedShows = new PublishedShowList();
+    private final Set<CompletableFuture<CommandResult>> pendingResults = ConcurrentHashMap.newKeySet();
+    private final AtomicLong previewGeneration = new AtomicLong();
+    private long savedModificationCount;
+    private boolean isPublishDeferred;
+
+    // Only used on the command worker
+    private FindCommand.Preview lastPreview;
+
+    // Only used on the JavaFX application thread
+    private List<Show> filteredShows;
+    private boolean isPreviewShown;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -37,13 +72,31 @@ public class LogicManager implements Logic {
      * @param storage the {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that runs commands on {@code commandWorker}, which must run tasks one at a
+     * time in the order they are given, and publishes their results with {@code uiExecutor}.
+     */
+    LogicManager(Model model, Storage storage, ExecutorService commandWorker, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.commandWorker = commandWorker;
+        this.uiExecutor = uiExecutor;
         parser = new TrackermonParser();
+        savedModificationCount = model.getShowListModificationCount();
+        publishShows(new ArrayList<>(model.getFilteredShowList()), new ArrayList<>(model.getSortedShowList()));
     }
 
     /**
-     * Executes the user input.
+     * Executes the user input on the calling thread. The show lists are published the next time one of them is
+     * asked for, rather than after every command, so a long run of commands does not copy them after each one.
+     * Must not be called while a command given to {@link #executeAsync(String)} may be running.
      * @param commandText The command as entered by the user.
      * @return a {@code CommandResult} object.
      * @throws CommandException if there is an error reading or saving the file.
@@ -51,12 +104,233 @@ public class LogicManager implements Logic {
      */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        previewGeneration.incrementAndGet();
+        try {
+            return executeCommand(commandText);
+        } finally {
+            isPublishDeferred = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * A preview shown in place of the filtered show list is dropped first, unless the command is a find, so that
+     * the indexes in the command refer to the shows that are displayed when it runs.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        // Any preview still waiting or running is for text that has now been entered
+        previewGeneration.incrementAndGet();
+        if (!FindCommand.isFindCommand(commandText)) {
+            dropPreview();
+        }
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        pendingResults.add(result);
+        try {
+            commandWorker.execute(() -> runPendingCommand(commandText, result));
+        } catch (RejectedExecutionException ree) {
+            logger.info("Command rejected after shutdown: " + commandText);
+            pendingResults.remove(result);
+            result.cancel(false);
+        }
+        return result;
+    }
+
+    /**
+     * Executes {@code commandText} on the command worker, unless it was cancelled while it was waiting to run, and
+     * then publishes the show lists and completes {@code result} together with {@code uiExecutor}.
+     */
+    private void runPendingCommand(String commandText, CompletableFuture<CommandResult> result) {
+        if (!pendingResults.remove(result)) {
+            logger.info("----------------[CANCELLED COMMAND][" + commandText + "]");
+            return;
+        }
+
+        CommandResult commandResult = null;
+        Exception failure = null;
+        try {
+            commandResult = executeCommand(commandText);
+        } catch (CommandException | ParseException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error running " + commandText + ": " + e);
+            failure = e;
+        }
+
+        // Copied here, since the model may be changed by the next command before the UI publishes it
+        List<Show> filteredSnapshot = new ArrayList<>(model.getFilteredShowList());
+        List<Show> sortedSnapshot = new ArrayList<>(model.getSortedShowList());
+        CommandResult completedResult = commandResult;
+        Exception completedFailure = failure;
+        uiExecutor.execute(() -> {
+            publishShows(filteredSnapshot, sortedSnapshot);
+            if (completedFailure == null) {
+                result.complete(completedResult);
+            } else {
+                result.completeExceptionally(completedFailure);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * Text that is not a find command restores the filtered show list before this returns, rather than after the
+     * commands before it have run, so that an index typed after a preview never refers to the shows of the preview.
+     */
+    @Override
+    public CompletableFuture<CommandResult> previewAsync(String commandText) {
+        long generation = previewGeneration.incrementAndGet();
+        if (!FindCommand.isFindCommand(commandText)) {
+            dropPreview();
+            return CompletableFuture.failedFuture(new ParseException(MESSAGE_NOT_PREVIEWABLE));
+        }
+
+        BooleanSupplier isStale = () -> previewGeneration.get() != generation;
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        try {
+            commandWorker.execute(() -> runPreview(commandText, isStale, result));
+        } catch (RejectedExecutionException ree) {
+            result.cancel(false);
+        }
+        return result;
+    }
+
+    /**
+     * Previews the find command {@code commandText} on the command worker, unless a later preview or command has
+     * been given since. A preview that extends the last one only filters the shows of the last preview, and every
+     * preview is abandoned as soon as it becomes stale. An invalid find command restores the filtered show list, if
+     * a preview was shown in its place.
+     */
+    private void runPreview(String commandText, BooleanSupplier isStale, CompletableFuture<CommandResult> result) {
+        if (isStale.getAsBoolean()) {
+            result.cancel(false);
+            return;
+        }
+
+        FindCommand command;
+        try {
+            Command parsedCommand = parser.parseCommand(commandText);
+            if (!(parsedCommand instanceof FindCommand)) {
+                throw new ParseException(MESSAGE_NOT_PREVIEWABLE);
+            }
+            command = (FindCommand) parsedCommand;
+        } catch (ParseException pe) {
+            uiExecutor.execute(() -> {
+                // Dropped even if stale, since the filtered show list is shown in its place rather than a preview
+                dropPreview();
+                result.completeExceptionally(pe);
+            });
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            lastPreview = command.preview(model, lastPreview, isStale);
+        } catch (CancellationException ce) {
+            result.cancel(false);
+            return;
+        }
+        logger.fine("Previewed " + commandText + (lastPreview.isRefined() ? " by refining the last preview" : "")
+                + " in " + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) + "us");
+
+        List<Show> shows = lastPreview.getShows();
+        CommandResult commandResult = new CommandResult(
+                String.format(Messages.MESSAGE_SHOWS_LISTED_OVERVIEW, shows.size()));
+        uiExecutor.execute(() -> {
+            if (isStale.getAsBoolean()) {
+                result.cancel(false);
+                return;
+            }
+            isPreviewShown = true;
+            publishedShows.publish(shows);
+            result.complete(commandResult);
+        });
+    }
+
+    /**
+     * Publishes {@code filteredSnapshot} of the filtered show list, which replaces any preview shown, and
+     * {@code sortedSnapshot} of the sorted show list. Both replace any publish deferred by {@link #execute(String)}.
+     */
+    private void publishShows(List<Show> filteredSnapshot, List<Show> sortedSnapshot) {
+        isPublishDeferred = false;
+        filteredShows = filteredSnapshot;
+        publishedSortedShows.publish(sortedSnapshot);
+        showFilteredShows();
+    }
+
+    /**
+     * Publishes the show lists of the model, if their publish was deferred by {@link #execute(String)}.
+     */
+    private void publishDeferredShows() {
+        if (isPublishDeferred) {
+            publishShows(new ArrayList<>(model.getFilteredShowList()), new ArrayList<>(model.getSortedShowList()));
+        }
+    }
+
+    /**
+     * Shows the filtered show list that was last published, in place of any preview shown.
+     */
+    private void showFilteredShows() {
+        isPreviewShown = false;
+        publishedShows.publish(filteredShows);
+    }
+
+    /**
+     * Shows the filtered show list that was last published again, if a preview is shown in its place.
+     */
+    private void dropPreview() {
+        if (isPreviewShown) {
+            showFilteredShows();
+        }
+    }
+
+    @Override
+    public int cancelPendingCommands() {
+        int cancelledCount = 0;
+        for (CompletableFuture<CommandResult> result : pendingResults) {
+            if (pendingResults.remove(result)) {
+                result.cancel(false);
+                cancelledCount++;
+            }
+        }
+        return cancelledCount;
+    }
+
+    @Override
+    public void shutdown() {
+        int cancelledCount = cancelPendingCommands();
+        if (cancelledCount > 0) {
+            logger.info("Cancelled " + cancelledCount + " pending commands");
+        }
+        commandWorker.shutdown();
+        try {
+            if (!commandWorker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Gave up waiting for the running command to finish");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parses and executes the user input, and saves the show list if the command changed it.
+     */
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = parser.parseCommand(commandText);
+        if (command.accessesDataFile()) {
+            flushShowList();
+        }
+        long modificationCount = model.getShowListModificationCount();
         commandResult = command.execute(model);
 
+        if (command.isReadOnly()) {
+            assert model.getShowListModificationCount() == modificationCount;
+            return commandResult;
+        }
+
         try {
             if (commandResult.isImport()) {
                 Optional<ReadOnlyShowList> showListOptional = storage.readShowList();
@@ -64,7 +338,7 @@ public class LogicManager implements Logic {
 
                 model.setShowList(showListOptional.orElse(currentData));
             }
-            storage.saveShowList(model.getShowList());
+            saveShowListIfModified();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_SAVE_ERROR_MESSAGE + ioe, ioe);
         } catch (DataConversionException dce) {
@@ -75,10 +349,35 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the show list if it has been modified since it was last saved.
+     */
+    private void saveShowListIfModified() throws IOException {
+        long modificationCount = model.getShowListModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.fine("Show list unchanged, skipping save");
+            return;
+        }
+        storage.saveShowList(model.getShowList());
+        savedModificationCount = modificationCount;
+    }
+
+    /**
+     * Waits until every save of the show list has been written to the data file.
+     */
+    private void flushShowList() throws CommandException {
+        try {
+            storage.flushShowList();
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_SAVE_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
     private void undoImport() throws CommandException {
         try {
             // Since model's show list has yet to be updated, we can "undo" the import
             storage.saveShowList(model.getShowList());
+            savedModificationCount = model.getShowListModificationCount();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_SAVE_ERROR_MESSAGE + ioe, ioe);
         }
@@ -91,12 +390,14 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Show> getFilteredShowList() {
-        return model.getFilteredShowList();
+        publishDeferredShows();
+        return publishedShows.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Show> getSortedShowList() {
-        return model.getSortedShowList();
+        publishDeferredShows();
+        return publishedSortedShows.asUnmodifiableObservableList();
     }
 
     @Override
@@ -0,0 +1,100 @@
+package seedu.trackermon.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import seedu.trackermon.model.show.Show;
+
+/**
+ * The shows displayed by the UI, which are only changed on the JavaFX application thread.
+ * Commands run on a worker thread and change the model's show lists there, so the UI is given this copy of one of
+ * them instead, which is brought up to date once each command has finished.
+ */
+class PublishedShowList {
+
+    private final ReplaceableShowList shows = new ReplaceableShowList();
+    private final ObservableList<Show> unmodifiableShows = FXCollections.unmodifiableObservableList(shows);
+
+    /**
+     * Returns an unmodifiable view of the published shows.
+     */
+    ObservableList<Show> asUnmodifiableObservableList() {
+        return unmodifiableShows;
+    }
+
+    /**
+     * Replaces the published shows with {@code snapshot}.
+     * Only the shows between the longest unchanged prefix and suffix are replaced, so a command that adds, edits or
+     * deletes one show changes one row of the UI, rather than every row, and listeners are told of it as one change.
+     */
+    void publish(List<Show> snapshot) {
+        requireNonNull(snapshot);
+
+        int from = 0;
+        int maxFrom = Math.min(shows.size(), snapshot.size());
+        while (from < maxFrom && shows.get(from) == snapshot.get(from)) {
+            from++;
+        }
+        int publishedTo = shows.size();
+        int snapshotTo = snapshot.size();
+        while (publishedTo > from && snapshotTo > from && shows.get(publishedTo - 1) == snapshot.get(snapshotTo - 1)) {
+            publishedTo--;
+            snapshotTo--;
+        }
+
+        if (publishedTo > from || snapshotTo > from) {
+            shows.replace(from, publishedTo, snapshot.subList(from, snapshotTo));
+        }
+    }
+
+    /**
+     * An observable list of shows which can replace a range of its shows in one change.
+     */
+    private static class ReplaceableShowList extends ModifiableObservableListBase<Show> {
+
+        private final List<Show> shows = new ArrayList<>();
+
+        /**
+         * Replaces the shows from {@code from}, inclusive, to {@code to}, exclusive, with {@code replacements}.
+         */
+        void replace(int from, int to, List<Show> replacements) {
+            beginChange();
+            try {
+                remove(from, to);
+                addAll(from, replacements);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Show get(int index) {
+            return shows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return shows.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Show element) {
+            shows.add(index, element);
+        }
+
+        @Override
+        protected Show doSet(int index, Show element) {
+            return shows.set(index, element);
+        }
+
+        @Override
+        protected Show doRemove(int index) {
+            return shows.remove(index);
+        }
+    }
+}
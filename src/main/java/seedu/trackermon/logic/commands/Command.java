@@ -16,4 +16,20 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command never modifies the show list, so the show list does not need to be saved
+     * after it is executed.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if the command reads or replaces the data file directly, so every save of the show list
+     * must be written to the data file before it is executed.
+     */
+    public boolean accessesDataFile() {
+        return false;
+    }
+
 }
@@ -37,4 +37,14 @@ public class ExportCommand extends Command {
 
         return new CommandResult(MESSAGE_FAIL);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean accessesDataFile() {
+        return true;
+    }
 }
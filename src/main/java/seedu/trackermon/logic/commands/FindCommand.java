@@ -1,16 +1,36 @@
 package seedu.trackermon.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_COMMENT;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import seedu.trackermon.commons.core.LogsCenter;
 import seedu.trackermon.commons.core.Messages;
 import seedu.trackermon.model.Model;
+import seedu.trackermon.model.show.Rating;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.ShowContainsKeywordsPredicate;
+import seedu.trackermon.model.show.Status;
+import seedu.trackermon.model.show.query.FindClause;
+import seedu.trackermon.model.show.query.FindQuery;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
 
 /**
  * Finds and lists all shows in Trackermon whose name contains any of the argument keywords.
@@ -23,7 +43,8 @@ public class FindCommand extends Command {
             + "{[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_STATUS + "STATUS] "
             + "[" + PREFIX_RATING + "RATING]}"
-            + "[" + PREFIX_TAG + "TAG]…\u200B}";
+            + "[" + PREFIX_TAG + "TAG]…\u200B"
+            + "[" + PREFIX_COMMENT + "COMMENT]}";
 
     public static final String COMMAND_FORMAT_GENERAL = "Parameters (General): "
             + "KEYWORD…\u200B";
@@ -36,14 +57,32 @@ public class FindCommand extends Command {
             + COMMAND_FORMAT_GENERAL + "\n" + COMMAND_FORMAT_PRECISE + "\n"
             + COMMAND_EXAMPLE;
 
+    private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
     private final Predicate<Show> predicate;
+    private final FindShowDescriptor findShowDescriptor;
 
     /**
      * Creates a find constructor to search for matching shows.
      * @param predicate the show to be stored as a Predicate.
      */
     public FindCommand(Predicate<Show> predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.findShowDescriptor = new FindShowDescriptor();
+    }
+
+    /**
+     * Creates a find constructor to search for shows matching every field of {@code findShowDescriptor}.
+     * The fields are planned into a query over the indexes of the model when the command is executed.
+     * If there are comment keywords, the matching shows are ranked by how often the keywords occur in their comment.
+     * @param findShowDescriptor the fields to search by.
+     */
+    public FindCommand(FindShowDescriptor findShowDescriptor) {
+        requireNonNull(findShowDescriptor);
+        this.predicate = Model.PREDICATE_SHOW_ALL_SHOWS;
+        this.findShowDescriptor = new FindShowDescriptor(findShowDescriptor);
     }
 
     /**
@@ -54,11 +93,114 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredShowList(predicate);
+        FindQueryPredicate queryPredicate = model.getFindQueryPredicate(findShowDescriptor.toFindQuery());
+        Predicate<Show> filter = queryPredicate.and(predicate);
+        Optional<Comparator<Show>> ranking = queryPredicate.getRanking();
+        if (ranking.isPresent()) {
+            model.updateFilteredShowList(filter, ranking.get());
+        } else {
+            model.updateFilteredShowList(filter);
+        }
+        logger.fine(queryPredicate::explain);
         return new CommandResult(
                 String.format(Messages.MESSAGE_SHOWS_LISTED_OVERVIEW, model.getFilteredShowList().size()));
     }
 
+    /**
+     * Returns true if the first word of {@code commandText} is the find command word, whether or not the rest of it
+     * is a valid find command.
+     */
+    public static boolean isFindCommand(String commandText) {
+        requireNonNull(commandText);
+        return commandText.trim().split("\\s+", 2)[0].equals(COMMAND_WORD);
+    }
+
+    /**
+     * Returns the shows that this command would list, in the order it would list them, without changing the model.
+     * If {@code previous} is the preview of a find that this command refines, and the show list has not changed
+     * since, only the shows in {@code previous} are checked, rather than every show in the show list.
+     * @param model {@code Model} which the command would operate on.
+     * @param previous the last preview, or null if there is none.
+     * @param isCancelled checked while the shows are being filtered; the preview is abandoned once it is true.
+     * @return the preview of this command.
+     * @throws CancellationException if the preview is abandoned.
+     */
+    public Preview preview(Model model, Preview previous, BooleanSupplier isCancelled) {
+        requireAllNonNull(model, isCancelled);
+        long modificationCount = model.getShowListModificationCount();
+        FindQuery query = findShowDescriptor.toFindQuery();
+        if (previous != null && previous.modificationCount == modificationCount && refines(previous.command)) {
+            return new Preview(this, modificationCount,
+                    filter(previous.shows, toScanPredicate(query), isCancelled), true);
+        }
+
+        List<Show> allShows = model.getShowList().getShows();
+        if (query.getClauses().isEmpty()) {
+            return new Preview(this, modificationCount, filter(allShows, predicate, isCancelled), false);
+        }
+        FindQueryPredicate queryPredicate = model.getFindQueryPredicate(query);
+        Optional<Comparator<Show>> ranking = queryPredicate.getRanking();
+        if (ranking.isEmpty() && !queryPredicate.isNarrowedByIndex()) {
+            // Such as the first letter of a name, for which checking each show is faster than the indexes
+            return new Preview(this, modificationCount, filter(allShows, toScanPredicate(query), isCancelled), false);
+        }
+        List<Show> shows = filter(allShows, queryPredicate.and(predicate), isCancelled);
+        ranking.ifPresent(shows::sort);
+        return new Preview(this, modificationCount, shows, false);
+    }
+
+    /**
+     * Returns a predicate that checks a single show against {@code query} and the predicate of this command,
+     * without using any index.
+     */
+    private Predicate<Show> toScanPredicate(FindQuery query) {
+        return query.getClauses().stream()
+                .map(FindClause::toScanPredicate)
+                .reduce(predicate, Predicate::and);
+    }
+
+    /**
+     * Returns the shows in {@code shows} that match {@code filter}, in the same order.
+     * @throws CancellationException if {@code isCancelled} becomes true before every show has been checked.
+     */
+    private static List<Show> filter(List<Show> shows, Predicate<Show> filter, BooleanSupplier isCancelled) {
+        List<Show> matches = new ArrayList<>();
+        for (int i = 0; i < shows.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            Show show = shows.get(i);
+            if (filter.test(show)) {
+                matches.add(show);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if every show this command lists is also listed by {@code previous}, such as when this command
+     * only extends the keywords of {@code previous}.
+     * Finds with comment keywords are never refinements, since their shows are ranked against every show.
+     * @param previous the find command to compare with.
+     * @return returns true if this command is a refinement of {@code previous}.
+     */
+    public boolean refines(FindCommand previous) {
+        requireNonNull(previous);
+        if (predicate instanceof ShowContainsKeywordsPredicate
+                && previous.predicate instanceof ShowContainsKeywordsPredicate) {
+            return ((ShowContainsKeywordsPredicate) predicate)
+                    .refines((ShowContainsKeywordsPredicate) previous.predicate)
+                    && findShowDescriptor.refines(previous.findShowDescriptor);
+        }
+        return predicate == Model.PREDICATE_SHOW_ALL_SHOWS && previous.predicate == Model.PREDICATE_SHOW_ALL_SHOWS
+                && findShowDescriptor.refines(previous.findShowDescriptor);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     /**
      * Returns whether two objects are equal.
      * @param other the second object to be compared with.
@@ -68,7 +210,188 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && findShowDescriptor.equals(((FindCommand) other).findShowDescriptor)); // state check
     }
-}
 
+    /**
+     * Stores the fields to search for shows by. A show matches if its name contains every name keyword,
+     * it has any of the statuses, it has a tag containing each tag keyword, it has any of the ratings,
+     * and its comment contains every comment keyword. Fields that are empty do not restrict the search.
+     */
+    public static class FindShowDescriptor {
+        private List<String> nameKeywords = Collections.emptyList();
+        private Set<Status> statuses = Collections.emptySet();
+        private List<String> tagKeywords = Collections.emptyList();
+        private Set<Rating> ratings = Collections.emptySet();
+        private List<String> commentKeywords = Collections.emptyList();
+
+        /**
+         * Creates a default constructor.
+         */
+        public FindShowDescriptor() {}
+
+        /**
+         * Creates a copy of {@code toCopy}.
+         * @param toCopy the descriptor to be copied.
+         */
+        public FindShowDescriptor(FindShowDescriptor toCopy) {
+            setNameKeywords(toCopy.nameKeywords);
+            setStatuses(toCopy.statuses);
+            setTagKeywords(toCopy.tagKeywords);
+            setRatings(toCopy.ratings);
+            setCommentKeywords(toCopy.commentKeywords);
+        }
+
+        public void setNameKeywords(List<String> nameKeywords) {
+            this.nameKeywords = List.copyOf(nameKeywords);
+        }
+
+        public List<String> getNameKeywords() {
+            return nameKeywords;
+        }
+
+        public void setStatuses(Set<Status> statuses) {
+            this.statuses = Set.copyOf(statuses);
+        }
+
+        public Set<Status> getStatuses() {
+            return statuses;
+        }
+
+        public void setTagKeywords(List<String> tagKeywords) {
+            this.tagKeywords = List.copyOf(tagKeywords);
+        }
+
+        public List<String> getTagKeywords() {
+            return tagKeywords;
+        }
+
+        public void setRatings(Set<Rating> ratings) {
+            this.ratings = Set.copyOf(ratings);
+        }
+
+        public Set<Rating> getRatings() {
+            return ratings;
+        }
+
+        public void setCommentKeywords(List<String> commentKeywords) {
+            this.commentKeywords = List.copyOf(commentKeywords);
+        }
+
+        public List<String> getCommentKeywords() {
+            return commentKeywords;
+        }
+
+        /**
+         * Returns true if every show matching this descriptor also matches {@code previous}.
+         * Each keyword of {@code previous} must be part of a keyword of this descriptor, and the statuses and
+         * ratings must be a subset of those of {@code previous}.
+         */
+        public boolean refines(FindShowDescriptor previous) {
+            return commentKeywords.isEmpty() && previous.commentKeywords.isEmpty()
+                    && containsEveryKeyword(nameKeywords, previous.nameKeywords)
+                    && isSubset(statuses, previous.statuses)
+                    && containsEveryKeyword(tagKeywords, previous.tagKeywords)
+                    && isSubset(ratings, previous.ratings);
+        }
+
+        /**
+         * Returns true if each of {@code previousKeywords} is part of any of {@code keywords}, ignoring case.
+         */
+        private static boolean containsEveryKeyword(List<String> keywords, List<String> previousKeywords) {
+            return previousKeywords.stream().allMatch(previousKeyword -> keywords.stream()
+                    .anyMatch(keyword -> keyword.toLowerCase(Locale.ROOT)
+                            .contains(previousKeyword.toLowerCase(Locale.ROOT))));
+        }
+
+        /**
+         * Returns true if {@code values} restricts the search at least as much as {@code previousValues},
+         * where an empty set does not restrict the search.
+         */
+        private static <T> boolean isSubset(Set<T> values, Set<T> previousValues) {
+            return previousValues.isEmpty() || (!values.isEmpty() && previousValues.containsAll(values));
+        }
+
+        /**
+         * Returns a {@code FindQuery} with a clause for each field that is not empty.
+         */
+        public FindQuery toFindQuery() {
+            List<FindClause> clauses = new ArrayList<>();
+            if (!nameKeywords.isEmpty()) {
+                clauses.add(new FindClause(FindClause.Field.NAME, nameKeywords));
+            }
+            if (!statuses.isEmpty()) {
+                clauses.add(new FindClause(FindClause.Field.STATUS, statuses.stream()
+                        .sorted().map(Status::toString).collect(Collectors.toList())));
+            }
+            if (!tagKeywords.isEmpty()) {
+                clauses.add(new FindClause(FindClause.Field.TAG, tagKeywords));
+            }
+            if (!ratings.isEmpty()) {
+                clauses.add(new FindClause(FindClause.Field.RATING, ratings.stream()
+                        .sorted().map(Rating::toString).collect(Collectors.toList())));
+            }
+            if (!commentKeywords.isEmpty()) {
+                clauses.add(new FindClause(FindClause.Field.COMMENT, commentKeywords));
+            }
+            return new FindQuery(clauses);
+        }
+
+        /**
+         * Returns whether two objects are equal.
+         * @param other the second object to be compared with.
+         * @return true if both objects are equal, else return false.
+         */
+        @Override
+        public boolean equals(Object other) {
+            // short circuit if same object
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FindShowDescriptor)) {
+                return false;
+            }
+
+            // state check
+            FindShowDescriptor f = (FindShowDescriptor) other;
+
+            return nameKeywords.equals(f.nameKeywords)
+                    && statuses.equals(f.statuses)
+                    && tagKeywords.equals(f.tagKeywords)
+                    && ratings.equals(f.ratings)
+                    && commentKeywords.equals(f.commentKeywords);
+        }
+    }
+
+    /**
+     * Stores the shows a {@code FindCommand} would list, as previewed while the command is being typed.
+     * Guarantees: immutable.
+     */
+    public static class Preview {
+        private final FindCommand command;
+        private final long modificationCount;
+        private final List<Show> shows;
+        private final boolean isRefined;
+
+        private Preview(FindCommand command, long modificationCount, List<Show> shows, boolean isRefined) {
+            this.command = command;
+            this.modificationCount = modificationCount;
+            this.shows = Collections.unmodifiableList(shows);
+            this.isRefined = isRefined;
+        }
+
+        public List<Show> getShows() {
+            return shows;
+        }
+
+        /**
+         * Returns true if the shows were found by refining a previous preview, rather than from every show.
+         */
+        public boolean isRefined() {
+            return isRefined;
+        }
+    }
+}
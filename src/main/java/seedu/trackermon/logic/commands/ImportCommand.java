@@ -36,4 +36,9 @@ public class ImportCommand extends Command {
 
         return new CommandResult(MESSAGE_FAIL);
     }
+
+    @Override
+    public boolean accessesDataFile() {
+        return true;
+    }
 }
@@ -25,4 +25,9 @@ public class ListCommand extends Command {
         model.updateFilteredShowList(PREDICATE_SHOW_ALL_SHOWS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
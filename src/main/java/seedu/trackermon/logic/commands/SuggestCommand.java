@@ -54,4 +54,9 @@ public class SuggestCommand extends Command {
         int randomIndex = rn.nextInt(sizeOfShowList);
         return currList.get(randomIndex);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
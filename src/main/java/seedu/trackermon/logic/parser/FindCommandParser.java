@@ -2,27 +2,27 @@ package seedu.trackermon.logic.parser;
 
 import static seedu.trackermon.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.trackermon.commons.core.Messages.MESSAGE_INVALID_INPUT;
+import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_COMMENT;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.trackermon.logic.commands.FindCommand;
+import seedu.trackermon.logic.commands.FindCommand.FindShowDescriptor;
 import seedu.trackermon.logic.parser.exceptions.ParseException;
+import seedu.trackermon.model.show.Comment;
+import seedu.trackermon.model.show.CommentIndex;
 import seedu.trackermon.model.show.Name;
-import seedu.trackermon.model.show.NameContainsKeywordsPredicate;
 import seedu.trackermon.model.show.Rating;
-import seedu.trackermon.model.show.RatingContainsKeywordsPredicate;
-import seedu.trackermon.model.show.Show;
 import seedu.trackermon.model.show.ShowContainsKeywordsPredicate;
 import seedu.trackermon.model.show.Status;
-import seedu.trackermon.model.show.StatusContainsKeywordsPredicate;
-import seedu.trackermon.model.show.TagsContainsKeywordsPredicate;
 import seedu.trackermon.model.tag.Tag;
 
 // @@author Ardentsoul-reused
@@ -34,6 +34,9 @@ import seedu.trackermon.model.tag.Tag;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_COMMENT_KEYWORD =
+            "Comment keywords must contain at least one letter or digit";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -43,20 +46,21 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_NAME, PREFIX_STATUS, PREFIX_TAG, PREFIX_RATING);
+                args, PREFIX_NAME, PREFIX_STATUS, PREFIX_TAG, PREFIX_RATING, PREFIX_COMMENT);
         boolean hasPrefix = false;
         boolean hasNamePrefix = argumentMultimap.arePrefixesPresent(PREFIX_NAME);
         boolean hasStatusPrefix = argumentMultimap.arePrefixesPresent(PREFIX_STATUS);
         boolean hasTagPrefix = argumentMultimap.arePrefixesPresent(PREFIX_TAG);
         boolean hasRatingPrefix = argumentMultimap.arePrefixesPresent(PREFIX_RATING);
+        boolean hasCommentPrefix = argumentMultimap.arePrefixesPresent(PREFIX_COMMENT);
         String[] keywordsArr;
 
         if (!argumentMultimap.getPreamble().isBlank()
-                && (hasNamePrefix || hasStatusPrefix || hasRatingPrefix || hasTagPrefix)) {
+                && (hasNamePrefix || hasStatusPrefix || hasRatingPrefix || hasTagPrefix || hasCommentPrefix)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        List<Predicate<Show>> predicateArrayList = new ArrayList<>();
+        FindShowDescriptor findShowDescriptor = new FindShowDescriptor();
         if (hasNamePrefix) {
             hasPrefix = true;
             String input = argumentMultimap.getValue(PREFIX_NAME).get();
@@ -65,20 +69,24 @@ public class FindCommandParser implements Parser<FindCommand> {
                 if (!Name.isValidName(keywordsArr[i])) {
                     throw new ParseException(String.format(MESSAGE_INVALID_INPUT, Name.MESSAGE_CONSTRAINTS));
                 }
-                predicateArrayList.add(new NameContainsKeywordsPredicate(Arrays.asList(keywordsArr[i])));
             }
+            // The shows whose names contain every keyword are looked up from the name trigram index
+            findShowDescriptor.setNameKeywords(Arrays.asList(keywordsArr));
         }
 
         if (hasStatusPrefix) {
             hasPrefix = true;
             String input = argumentMultimap.getValue(PREFIX_STATUS).get();
             keywordsArr = getKeywords(input);
+            Set<Status> statuses = EnumSet.noneOf(Status.class);
             for (int i = 0; i < keywordsArr.length; i++) {
                 if (!Status.isValidStatus(keywordsArr[i])) {
                     throw new ParseException(String.format(MESSAGE_INVALID_INPUT, Status.MESSAGE_CONSTRAINTS));
                 }
+                statuses.add(Status.getStatus(keywordsArr[i]));
             }
-            predicateArrayList.add(new StatusContainsKeywordsPredicate(Arrays.asList(keywordsArr)));
+            // Shows with any of the statuses are looked up from the status bitmaps
+            findShowDescriptor.setStatuses(statuses);
         }
 
         if (hasTagPrefix) {
@@ -88,21 +96,38 @@ public class FindCommandParser implements Parser<FindCommand> {
                 if (!Tag.isValidTagName(input.get(i))) {
                     throw new ParseException(String.format(MESSAGE_INVALID_INPUT, Tag.MESSAGE_CONSTRAINTS));
                 }
-                predicateArrayList.add(new TagsContainsKeywordsPredicate(Arrays.asList(input.get(i))));
             }
+            // Every keyword is a complete tag word, so the shows are looked up from the tag index
+            findShowDescriptor.setTagKeywords(input);
         }
 
         if (hasRatingPrefix) {
             hasPrefix = true;
             String input = argumentMultimap.getValue(PREFIX_RATING).get();
             keywordsArr = getRatingKeywords(input);
+            Set<Rating> ratings = new HashSet<>();
             for (int i = 0; i < keywordsArr.length; i++) {
                 keywordsArr[i] = keywordsArr[i].replaceFirst("^0+(?!$)", "");
                 if (!Rating.isValidRating(keywordsArr[i])) {
                     throw new ParseException(String.format(MESSAGE_INVALID_INPUT, Rating.INVALID_RATING));
                 }
+                ratings.add(new Rating(keywordsArr[i]));
+            }
+            // Shows with any of the ratings are looked up from the rating bitmaps
+            findShowDescriptor.setRatings(ratings);
+        }
+
+        if (hasCommentPrefix) {
+            hasPrefix = true;
+            String input = argumentMultimap.getValue(PREFIX_COMMENT).get();
+            if (!Comment.isValidComment(input)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INPUT, Comment.MESSAGE_CONSTRAINTS));
+            }
+            if (CommentIndex.tokenize(input).isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INPUT, MESSAGE_INVALID_COMMENT_KEYWORD));
             }
-            predicateArrayList.add(new RatingContainsKeywordsPredicate(Arrays.asList(keywordsArr)));
+            // The comment index is tokenized, so every word is looked up as a whole term
+            findShowDescriptor.setCommentKeywords(Arrays.asList(getKeywords(input)));
         }
 
         if (!hasPrefix) {
@@ -113,7 +138,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
             return new FindCommand(new ShowContainsKeywordsPredicate(Arrays.asList(keywordsArr)));
         } else {
-            return new FindCommand(predicateArrayList.stream().reduce(Predicate::and).orElse(x ->true));
+            return new FindCommand(findShowDescriptor);
         }
     }
 
@@ -6,6 +6,7 @@ import static seedu.trackermon.logic.parser.SortCommandParser.VALUE_DSC;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 import seedu.trackermon.commons.core.Messages;
@@ -63,7 +64,7 @@ public class ParserUtil {
      */
     public static Status parseStatus(String status) throws ParseException {
         requireNonNull(status);
-        String trimmedStatus = status.trim().toUpperCase();
+        String trimmedStatus = status.trim().toUpperCase(Locale.ROOT);
         if (!Status.isValidStatus(trimmedStatus)) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_INPUT, Status.MESSAGE_CONSTRAINTS));
         }
@@ -6,25 +6,24 @@ import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 import seedu.trackermon.commons.core.Messages;
 import seedu.trackermon.logic.commands.SortCommand;
 import seedu.trackermon.logic.parser.exceptions.ParseException;
-import seedu.trackermon.model.show.NameComparator;
-import seedu.trackermon.model.show.RatingComparator;
-import seedu.trackermon.model.show.Show;
-import seedu.trackermon.model.show.StatusComparator;
-import seedu.trackermon.model.show.TagComparator;
+import seedu.trackermon.model.show.SortSpec;
+import seedu.trackermon.model.show.SortSpec.Direction;
+import seedu.trackermon.model.show.SortSpec.Field;
 
 /**
- * Parses input arguments and creates a new SortCommand object
+ * Parses input arguments and creates a new SortCommand object.
+ * The parser holds no per-parse state, so it is safe to use from any thread. Arguments are compiled into a
+ * {@code SortSpec}, which is cached by its normalized argument string so that replayed sort commands reuse
+ * the same compiled comparator.
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
@@ -35,9 +34,15 @@ public class SortCommandParser implements Parser<SortCommand> {
     private static final String VALUE_ORDER_RATING = "RATING";
     private static final String VALUE_ORDER_TAG = "TAG";
     private static final int NO_VALUE = -1;
-    private static final int ADD_VALUE = 100;
-    private static int startingValue = 0;
-    private static HashMap<Comparator<Show>, Integer> order = new HashMap<>();
+    private static final int MAX_CACHED_SPECS = 64;
+
+    // The following arrays are indexed by the ordinal of each Field
+    private static final Field[] FIELDS = Field.values();
+    private static final Prefix[] FIELD_PREFIXES = {PREFIX_NAME, PREFIX_STATUS, PREFIX_RATING, PREFIX_TAG};
+    private static final String[] FIELD_ORDER_VALUES =
+            {VALUE_ORDER_NAME, VALUE_ORDER_STATUS, VALUE_ORDER_RATING, VALUE_ORDER_TAG};
+
+    private static final Map<String, SortSpec> cachedSortSpecs = new ConcurrentHashMap<>();
 
     public static final String COMMAND_EXAMPLE = "Example: To sort by rating in ascending order, "
             + "followed by status in descending order, " + SortCommand.COMMAND_WORD + " "
@@ -55,164 +60,94 @@ public class SortCommandParser implements Parser<SortCommand> {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public SortCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
-            return new SortCommand(new NameComparator());
-        }
-
-        Comparator<Show> nameComparator = new NameComparator();
-        Comparator<Show> statusComparator = new StatusComparator();
-        Comparator<Show> ratingComparator = new RatingComparator();
-        Comparator<Show> tagComparator = new TagComparator();
+        return new SortCommand(parseSortSpec(args).toComparator());
+    }
 
+    /**
+     * Parses the given {@code String} of arguments into a {@code SortSpec}.
+     * Each of {@code n/ s/ r/ t/} that is present adds a key sorted in the given direction. Keys are ordered by
+     * their position in {@code so/} if it is present, or in the order name, status, rating and tag otherwise.
+     * If no keys are given, shows are sorted by name in ascending order.
+     * @param args the given {@code String} of arguments in the context of the SortCommand.
+     * @return the parsed {@code SortSpec}.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public static SortSpec parseSortSpec(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME,
                         PREFIX_STATUS, PREFIX_RATING, PREFIX_TAG, PREFIX_SORT_ORDER);
 
-        order = new HashMap<>();
-        //Initialise order map
-        order.put(nameComparator, NO_VALUE);
-        order.put(statusComparator, NO_VALUE);
-        order.put(ratingComparator, NO_VALUE);
-        order.put(tagComparator, NO_VALUE);
-
-        //put into Order map for every prefix used
-        Comparator<Show> finalNameComparator = putIntoMap(nameComparator, PREFIX_NAME, argMultimap);
-        Comparator<Show> finalStatusComparator = putIntoMap(statusComparator, PREFIX_STATUS, argMultimap);
-        Comparator<Show> finalRatingComparator = putIntoMap(ratingComparator, PREFIX_RATING, argMultimap);
-        Comparator<Show> finalTagComparator = putIntoMap(tagComparator, PREFIX_TAG, argMultimap);
-
-        //a new Map for knowing what word to search for in so/
-        HashMap<Comparator<Show>, String> comparatorString = new HashMap<>();
-        comparatorString.put(finalNameComparator, VALUE_ORDER_NAME);
-        comparatorString.put(finalStatusComparator, VALUE_ORDER_STATUS);
-        comparatorString.put(finalRatingComparator, VALUE_ORDER_RATING);
-        comparatorString.put(finalTagComparator, VALUE_ORDER_TAG);
-        //reorder the Order map according to the input value in so/
-        reorderMap(argMultimap, comparatorString);
-
-        //sort the hashmap
-        Map<Comparator<Show>, Integer> sortedOrder = order.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue())
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        Map.Entry::getValue, (oldValue, newValue) -> oldValue, LinkedHashMap::new));
-
-        //the final comparator built according the Order Map
-        Comparator<Show> comparator = buildComparator(sortedOrder);
-
-        //if no prefixes are present, sort by name ascending
-        return new SortCommand(Objects.requireNonNullElse(comparator, nameComparator));
-
-    }
-
-    /**
-     * Returns a comparator then chains the previous comparator to a new one if the previous is not null.
-     * @param comparator previous comparator to built upon.
-     * @param entry is the new comparator to chain.
-     * @return a comparator build upon the previous comparator.
-     */
-    private static Comparator<Show> chainComparator(Comparator<Show> comparator,
-                                                    Map.Entry<Comparator<Show>, Integer> entry) {
-        if (comparator == null) {
-            return entry.getKey();
-        } else {
-            return comparator.thenComparing(entry.getKey());
+        Direction[] directions = new Direction[FIELDS.length];
+        int[] positions = new int[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            directions[i] = parseDirection(argMultimap, FIELD_PREFIXES[i]);
+            positions[i] = i;
         }
-    }
 
-    /**
-     * Returns a new comparator based on the values in sorted Map.
-     * @param sortedOrder the sorted map for the new comparator to build upon.
-     * @return a new comparator based on the values in sorted Map.
-     */
-    private static Comparator<Show> buildComparator(Map<Comparator<Show>, Integer> sortedOrder) {
-        Comparator<Show> overallComparator = null;
-        for (Map.Entry<Comparator<Show>, Integer> entry: sortedOrder.entrySet()) {
-            if (entry.getValue() != NO_VALUE) {
-                overallComparator = chainComparator(overallComparator, entry);
+        if (argMultimap.getValue(PREFIX_SORT_ORDER).isPresent()) {
+            String valueOrder = argMultimap.getValue(PREFIX_SORT_ORDER).get().toUpperCase().trim();
+            for (int i = 0; i < FIELDS.length; i++) {
+                positions[i] = valueOrder.indexOf(FIELD_ORDER_VALUES[i]);
+                if (directions[i] != null && positions[i] == NO_VALUE) {
+                    throw new ParseException(String.format(Messages.MESSAGE_INVALID_INPUT, MESSAGE_INVALID_SO));
+                }
             }
         }
-        return overallComparator;
-    }
 
-    /**
-     * Checks if the prefix is used and if it is, update Order map.
-     * Checks if descending value is used correctly, update the Order map with descending comparator and
-     * returns the comparator.
-     * @param comparator key of the Order Map.
-     * @param prefix the Prefix to search.
-     * {@code ArgumentMultimap}.
-     * @return a comparator depending on whether it was reversed.
-     */
-    private static Comparator<Show> putIntoMap(Comparator<Show> comparator,
-                                               Prefix prefix, ArgumentMultimap argMultimap) throws ParseException {
-        Comparator<Show> newComparator = comparator;
-        if (arePrefixesPresent(argMultimap, prefix)) {
-            String value = argMultimap.getValue(prefix).orElse(VALUE_ASC);
-            value = ParserUtil.checkOrder(value.toUpperCase().trim());
-            if (value.equals(VALUE_DSC)) {
-                newComparator = comparator.reversed();
+        List<SortSpec.Key> keys = new ArrayList<>(FIELDS.length);
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (directions[i] != null) {
+                keys.add(new SortSpec.Key(FIELDS[i], directions[i]));
             }
-            order.put(newComparator, startingValue);
-            startingValue++;
         }
+        keys.sort(Comparator.comparingInt(key -> positions[key.field.ordinal()]));
 
-        return newComparator;
+        return getSortSpec(keys);
     }
 
     /**
-     * Updates value of Order Map if the value is not -1.
-     * @param comparator key of the Order Map.
-     * @param index new index to update.
+     * Returns the {@code Direction} given to {@code prefix}, or null if {@code prefix} is not present.
+     * @throws ParseException if the value of {@code prefix} is neither ascending nor descending.
      */
-    private static void updateMapValues(Comparator<Show> comparator, int index) {
-        if (order.get(comparator) != NO_VALUE) {
-            order.replace(comparator, index);
+    private static Direction parseDirection(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
+        if (argMultimap.getValue(prefix).isEmpty()) {
+            return null;
         }
-    }
 
-    /**
-     * Add ADD_VALUE to value.
-     * @param value integer to change.
-     * @return the new value.
-     */
-    private static int addValue(int value) {
-        return value + ADD_VALUE;
+        String value = ParserUtil.checkOrder(argMultimap.getValue(prefix).get().toUpperCase().trim());
+        return value.equals(VALUE_DSC) ? Direction.DSC : Direction.ASC;
     }
 
     /**
-     * Changes the values of Order Map based on input value for prefix so/.
-     * {@code ArgumentMultimap}.
-     * @param comparatorString Map that contains the comparator and the string to search.
+     * Returns the cached {@code SortSpec} with the given {@code keys}, compiling and caching a new one if needed.
      */
-    private static void reorderMap(ArgumentMultimap argMultimap, HashMap<Comparator<Show>,
-            String> comparatorString) throws ParseException {
-        if (arePrefixesPresent(argMultimap, PREFIX_SORT_ORDER)) {
-            String valueOrder = argMultimap.getValue(PREFIX_SORT_ORDER).get();
-            valueOrder = valueOrder.toUpperCase().trim();
-            for (Map.Entry<Comparator<Show>, String> entry : comparatorString.entrySet()) {
-                int index = valueOrder.indexOf(entry.getValue());
-                if (index != NO_VALUE) {
-                    int newValue = addValue(index);
-                    updateMapValues(entry.getKey(), newValue);
-                }
-            }
+    private static SortSpec getSortSpec(List<SortSpec.Key> keys) {
+        String normalizedArgs = toNormalizedArgs(keys);
+        SortSpec sortSpec = cachedSortSpecs.get(normalizedArgs);
+        if (sortSpec != null) {
+            return sortSpec;
+        }
 
-            for (Map.Entry<Comparator<Show>, Integer> entry : order.entrySet()) {
-                int value = entry.getValue();
-                if ((value < ADD_VALUE) && value != NO_VALUE) {
-                    throw new ParseException(String.format(Messages.MESSAGE_INVALID_INPUT, MESSAGE_INVALID_SO));
-                }
-            }
+        sortSpec = new SortSpec(keys);
+        if (cachedSortSpecs.size() < MAX_CACHED_SPECS) {
+            cachedSortSpecs.putIfAbsent(normalizedArgs, sortSpec);
         }
+        return sortSpec;
     }
 
     /**
-     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
+     * Returns the canonical argument string for {@code keys}, e.g. {@code "r/dsc n/asc so/ratingname"}.
+     * Arguments that differ only in case, spacing or the order of their prefixes share the same string.
      */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    private static String toNormalizedArgs(List<SortSpec.Key> keys) {
+        StringBuilder prefixes = new StringBuilder();
+        StringBuilder sortOrder = new StringBuilder();
+        for (SortSpec.Key key : keys) {
+            prefixes.append(FIELD_PREFIXES[key.field.ordinal()]).append(key.direction.name().toLowerCase())
+                    .append(" ");
+            sortOrder.append(FIELD_ORDER_VALUES[key.field.ordinal()].toLowerCase());
+        }
+        return prefixes.append(PREFIX_SORT_ORDER).append(sortOrder).toString();
     }
 
 }
@@ -7,6 +7,8 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.query.FindQuery;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
 
 /**
  * The API of the Model component.
@@ -50,6 +52,12 @@ public interface Model {
      */
     void setShowList(ReadOnlyShowList showList);
 
+    /**
+     * Returns the number of times the show list has been modified.
+     * The count changes whenever the show list no longer matches what was last saved from it.
+     */
+    long getShowListModificationCount();
+
     /** Returns the ShowList */
     ReadOnlyShowList getShowList();
 
@@ -89,11 +97,27 @@ public interface Model {
      */
     void updateFilteredShowList(Predicate<Show> predicate);
 
+    /**
+     * Updates the filter of the filtered show list to filter by the given {@code predicate}, and orders the
+     * shows by the given {@code ranking} until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code ranking} is null.
+     */
+    void updateFilteredShowList(Predicate<Show> predicate, Comparator<Show> ranking);
+
+    /**
+     * Returns a predicate that tests whether a show matches every clause of {@code query}.
+     * The query is planned over the indexes of the show list, and the plan that ran can be inspected
+     * with {@link FindQueryPredicate#explain()}.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    FindQueryPredicate getFindQueryPredicate(FindQuery query);
+
     /** Returns an unmodifiable view of the sorted show list */
     ObservableList<Show> getSortedShowList();
 
     /**
-     * Updates the sort of the sorted show list by the given {@code comparator}.
+     * Updates the sort of the sorted show list by the given {@code comparator}, replacing the ranking of the
+     * last find, if any. The filter of the filtered show list is kept.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void updateSortedShowList(Comparator<Show> comparator);
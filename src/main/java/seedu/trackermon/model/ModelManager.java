@@ -5,6 +5,7 @@ import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,6 +15,8 @@ import javafx.collections.transformation.SortedList;
 import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.commons.core.LogsCenter;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.query.FindQuery;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
 
 /**
  * Represents the in-memory model of the show list data.
@@ -87,6 +90,11 @@ public class ModelManager implements Model {
         this.showList.resetData(showList);
     }
 
+    @Override
+    public long getShowListModificationCount() {
+        return showList.getModificationCount();
+    }
+
     @Override
     public ReadOnlyShowList getShowList() {
         return showList;
@@ -137,9 +145,23 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredShowList(Predicate<Show> predicate) {
         requireNonNull(predicate);
+        sortedShows.setComparator(null);
         filteredShows.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredShowList(Predicate<Show> predicate, Comparator<Show> ranking) {
+        requireAllNonNull(predicate, ranking);
+        filteredShows.setPredicate(predicate);
+        sortedShows.setComparator(ranking);
+    }
+
+    @Override
+    public FindQueryPredicate getFindQueryPredicate(FindQuery query) {
+        requireNonNull(query);
+        return showList.getFindQueryPredicate(query);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -170,18 +192,17 @@ public class ModelManager implements Model {
     @Override
     public void updateSortedShowList(Comparator<Show> comparator) {
         requireNonNull(comparator);
-        sortedShows.setComparator(comparator);
-        saveSortedShowList();
+        showList.sortShows(comparator);
+        // A find's ranking would otherwise hide the new order until the filter is next updated
         sortedShows.setComparator(null);
     }
 
     @Override
     public void saveSortedShowList() {
-        ShowList newShowList = new ShowList();
-        for (int i = 0; i < sortedShows.size(); i++) {
-            newShowList.addShow(sortedShows.get(i));
+        Comparator<? super Show> comparator = sortedShows.getComparator();
+        if (comparator != null) {
+            showList.sortShows(comparator);
         }
-        showList.resetData(newShowList);
     }
 
 }
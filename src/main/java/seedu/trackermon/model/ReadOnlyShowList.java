@@ -2,6 +2,7 @@ package seedu.trackermon.model;
 
 import javafx.collections.ObservableList;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.ShowListChange;
 
 public interface ReadOnlyShowList {
 
@@ -10,4 +11,12 @@ public interface ReadOnlyShowList {
      * This list will not contain any duplicate show.
      */
     ObservableList<Show> getShows();
+
+    /**
+     * Returns the last change made to the show list, from which later changes can be followed, or null if the
+     * changes made to the show list are not recorded.
+     */
+    default ShowListChange getLastChange() {
+        return null;
+    }
 }
@@ -3,6 +3,7 @@ package seedu.trackermon.model;
 import java.nio.file.Path;
 
 import seedu.trackermon.commons.core.GuiSettings;
+import seedu.trackermon.commons.core.ShowListFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -12,4 +13,14 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getShowListFilePath();
+
+    ShowListFormat getShowListFormat();
+
+    boolean isShowListMapped();
+
+    boolean isShowListJournaled();
+
+    boolean isShowListPrettyPrinted();
+
+    int getShowListGenerationCount();
 }
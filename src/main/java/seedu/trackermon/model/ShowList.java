@@ -2,11 +2,15 @@ package seedu.trackermon.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.ShowListChange;
 import seedu.trackermon.model.show.UniqueShowList;
+import seedu.trackermon.model.show.query.FindQuery;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
 
 /**
  * Represents a list of shows
@@ -14,6 +18,7 @@ import seedu.trackermon.model.show.UniqueShowList;
 public class ShowList implements ReadOnlyShowList {
 
     private final UniqueShowList shows;
+    private long modificationCount;
 
     {
         shows = new UniqueShowList();
@@ -22,11 +27,16 @@ public class ShowList implements ReadOnlyShowList {
     public ShowList() {}
 
     /**
-     * Creates an ShowList using the Shows in the {@code toBeCopied}
+     * Creates an ShowList using the Shows in the {@code toBeCopied}.
+     * Changes made to the copy continue the recorded changes of {@code toBeCopied}, if it records them.
      */
     public ShowList(ReadOnlyShowList toBeCopied) {
         this();
         resetData(toBeCopied);
+        ShowListChange lastChange = toBeCopied.getLastChange();
+        if (lastChange != null) {
+            shows.continueChanges(lastChange);
+        }
     }
 
     //// list overwrite operations
@@ -37,6 +47,7 @@ public class ShowList implements ReadOnlyShowList {
      */
     public void setShows(List<Show> shows) {
         this.shows.setShows(shows);
+        modificationCount++;
     }
 
     /**
@@ -61,6 +72,7 @@ public class ShowList implements ReadOnlyShowList {
      */
     public void addShow(Show p) {
         shows.add(p);
+        modificationCount++;
     }
 
     /**
@@ -71,6 +83,7 @@ public class ShowList implements ReadOnlyShowList {
     public void setShow(Show target, Show editedShow) {
         requireNonNull(editedShow);
         shows.setShow(target, editedShow);
+        modificationCount++;
     }
 
     /**
@@ -79,6 +92,30 @@ public class ShowList implements ReadOnlyShowList {
      */
     public void removeShow(Show key) {
         shows.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Sorts the shows in the show list according to {@code comparator}.
+     */
+    public void sortShows(Comparator<? super Show> comparator) {
+        shows.sort(comparator);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times the shows in the show list have been modified, which changes whenever
+     * the show list needs to be saved again.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a predicate that tests whether a show in the show list matches {@code query}.
+     */
+    public FindQueryPredicate getFindQueryPredicate(FindQuery query) {
+        return shows.getFindQueryPredicate(query);
     }
 
     //// util methods
@@ -93,6 +130,11 @@ public class ShowList implements ReadOnlyShowList {
         return shows.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ShowListChange getLastChange() {
+        return shows.getLastChange();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
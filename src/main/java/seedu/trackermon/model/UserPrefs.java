@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.commons.core.JarTools;
+import seedu.trackermon.commons.core.ShowListFormat;
 
 /**
  * Represents User's preferences.
@@ -18,6 +19,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path showListFilePath = JarTools.runningFromJarFile()
             ? Paths.get(JarTools.getClassLocationString(UserPrefs.class), "data" , "trackermon.json")
             : Paths.get("data" , "trackermon.json");
+    private ShowListFormat showListFormat = ShowListFormat.JSON;
+    private boolean showListMapped = false;
+    private boolean showListJournaled = false;
+    private boolean showListPrettyPrinted = false;
+    private int showListGenerationCount = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +45,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setShowListFilePath(newUserPrefs.getShowListFilePath());
+        setShowListFormat(newUserPrefs.getShowListFormat());
+        setShowListMapped(newUserPrefs.isShowListMapped());
+        setShowListJournaled(newUserPrefs.isShowListJournaled());
+        setShowListPrettyPrinted(newUserPrefs.isShowListPrettyPrinted());
+        setShowListGenerationCount(newUserPrefs.getShowListGenerationCount());
     }
 
     public GuiSettings getGuiSettings() {
@@ -59,6 +70,47 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.showListFilePath = showListFilePath;
     }
 
+    public ShowListFormat getShowListFormat() {
+        return showListFormat;
+    }
+
+    public void setShowListFormat(ShowListFormat showListFormat) {
+        requireNonNull(showListFormat);
+        this.showListFormat = showListFormat;
+    }
+
+    public boolean isShowListMapped() {
+        return showListMapped;
+    }
+
+    public void setShowListMapped(boolean showListMapped) {
+        this.showListMapped = showListMapped;
+    }
+
+    public boolean isShowListJournaled() {
+        return showListJournaled;
+    }
+
+    public void setShowListJournaled(boolean showListJournaled) {
+        this.showListJournaled = showListJournaled;
+    }
+
+    public boolean isShowListPrettyPrinted() {
+        return showListPrettyPrinted;
+    }
+
+    public void setShowListPrettyPrinted(boolean showListPrettyPrinted) {
+        this.showListPrettyPrinted = showListPrettyPrinted;
+    }
+
+    public int getShowListGenerationCount() {
+        return showListGenerationCount;
+    }
+
+    public void setShowListGenerationCount(int showListGenerationCount) {
+        this.showListGenerationCount = showListGenerationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +123,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && showListFilePath.equals(o.showListFilePath);
+                && showListFilePath.equals(o.showListFilePath)
+                && showListFormat == o.showListFormat
+                && showListMapped == o.showListMapped
+                && showListJournaled == o.showListJournaled
+                && showListPrettyPrinted == o.showListPrettyPrinted
+                && showListGenerationCount == o.showListGenerationCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, showListFilePath);
+        return Objects.hash(guiSettings, showListFilePath, showListFormat, showListMapped, showListJournaled,
+                showListPrettyPrinted, showListGenerationCount);
     }
 
     @Override
@@ -84,6 +142,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + showListFilePath);
+        sb.append("\nData file format : " + showListFormat);
+        sb.append("\nMap binary data file : " + showListMapped);
+        sb.append("\nJournal data file changes : " + showListJournaled);
+        sb.append("\nPretty print data file : " + showListPrettyPrinted);
+        sb.append("\nPrevious data files kept : " + showListGenerationCount);
         return sb.toString();
     }
 }
@@ -1,15 +1,36 @@
 package seedu.trackermon.model.show;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.trackermon.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Supplier;
+
+/**
+ * Represents a Show's comment in Trackermon.
+ * Comments of at least {@link #OFF_HEAP_LENGTH} characters are kept outside of the heap, one byte per character, in
+ * segments shared by many comments, and comments can also be loaded from elsewhere, such as a memory-mapped data file.
+ * The text of such comments is materialized when it is needed, and the text of the most recently used ones is kept in
+ * a small shared cache.
+ */
 public class Comment {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Comment is limited to standard ASCII characters and can contain up to 300000 ASCII characters";
 
-    public static final String VALIDATION_REGEX_COMMENT = "[\\p{ASCII}]{0,300000}";
+    public static final int MAX_LENGTH = 300000;
+
+    public static final String VALIDATION_REGEX_COMMENT = "[\\p{ASCII}]{0," + MAX_LENGTH + "}";
+
+    /** Comments at least this long are kept outside of the heap. */
+    public static final int OFF_HEAP_LENGTH = 1024;
 
-    public final String comment;
+    /** Keeps the text of up to two of the longest comments, or of many shorter ones. */
+    private static final CommentCache cache = new CommentCache(2L * MAX_LENGTH);
+
+    private final String comment;
+    private final Supplier<String> loader;
+    private final int length;
+    private int hash;
 
     /**
      * Constructs a {@code Comment}.
@@ -17,7 +38,41 @@ public class Comment {
      */
     public Comment(String comment) {
         checkArgument(isValidComment(comment), MESSAGE_CONSTRAINTS);
-        this.comment = comment;
+        if (comment.length() >= OFF_HEAP_LENGTH) {
+            this.comment = null;
+            this.loader = new OffHeapText(comment);
+        } else {
+            this.comment = comment;
+            this.loader = null;
+        }
+        this.length = comment.length();
+    }
+
+    private Comment(Supplier<String> loader, int length) {
+        this.comment = null;
+        this.loader = loader;
+        this.length = length;
+    }
+
+    /**
+     * Returns a {@code Comment} whose text is not held by the comment, but is obtained from {@code loader}
+     * whenever it is needed and not cached.
+     * @param loader Supplies the same valid comment every time it is called. The comment is not validated again.
+     */
+    public static Comment fromLoader(Supplier<String> loader) {
+        requireNonNull(loader);
+        return new Comment(loader, -1);
+    }
+
+    /**
+     * Returns a {@code Comment} whose text is obtained from {@code loader}, like {@link #fromLoader(Supplier)},
+     * and is known to be {@code length} characters long, so that it is not loaded to be compared with a comment of
+     * a different length.
+     */
+    public static Comment fromLoader(Supplier<String> loader, int length) {
+        requireNonNull(loader);
+        checkArgument(length >= 0, "Comment length cannot be negative");
+        return new Comment(loader, length);
     }
 
     /**
@@ -27,31 +82,65 @@ public class Comment {
         return comment.matches(VALIDATION_REGEX_COMMENT);
     }
 
+    /**
+     * Returns the text of the {@code Comment}.
+     */
+    public String getText() {
+        return comment != null ? comment : cache.get(loader);
+    }
+
+    /**
+     * Returns the text of the {@code Comment} without keeping it in the shared cache, for scans that read each
+     * comment once, such as saving or indexing every show, and would otherwise evict the comments being viewed.
+     */
+    public String getUncachedText() {
+        return comment != null ? comment : loader.get();
+    }
+
     /**
      * Return {@code String} representation of {@code Comment}.
      */
     @Override
     public String toString() {
-        return comment;
+        return getText();
     }
 
     /**
      * Returns whether two objects are equal, or share the same comment.
+     * The text of comments that are not held on the heap is only materialized if the comments are not loaded by the
+     * same loader, and are not known to differ in length.
      * @param other the second object to be compared with.
      * @return true if both objects are equal, else return false.
      */
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof Comment
-                && comment.equals(((Comment) other).comment));
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Comment)) {
+            return false;
+        }
+
+        Comment otherComment = (Comment) other;
+        if (loader != null && loader == otherComment.loader) {
+            return true;
+        }
+        if (length >= 0 && otherComment.length >= 0 && length != otherComment.length) {
+            return false;
+        }
+        return getText().equals(otherComment.getText());
     }
 
     /**
-     * Returns the hashcode of the {@code Name}.
+     * Returns the hashcode of the {@code Comment}, which is computed once.
      */
     @Override
     public int hashCode() {
-        return comment.hashCode();
+        int result = hash;
+        if (result == 0) {
+            result = getText().hashCode();
+            hash = result;
+        }
+        return result;
     }
 }
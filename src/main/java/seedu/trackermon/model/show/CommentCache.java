@@ -0,0 +1,57 @@
+package seedu.trackermon.model.show;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Represents a least recently used cache of the text of comments that are not held on the heap.
+ * Entries are keyed by the identity of the loader that produces the text, and the least recently used entries
+ * are evicted once the cached text exceeds a budget of characters. The most recently loaded text is always kept,
+ * even if it is longer than the budget on its own, so that a comment that is being shown is only loaded once.
+ */
+class CommentCache {
+
+    private final Map<Supplier<String>, String> texts = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxCachedChars;
+    private long cachedChars;
+
+    /**
+     * Creates a {@code CommentCache} that keeps up to {@code maxCachedChars} characters of text.
+     */
+    CommentCache(long maxCachedChars) {
+        assert maxCachedChars >= 0;
+        this.maxCachedChars = maxCachedChars;
+    }
+
+    /**
+     * Returns the text produced by {@code loader}, which is only called if its text is not cached.
+     */
+    synchronized String get(Supplier<String> loader) {
+        requireNonNull(loader);
+        String text = texts.get(loader);
+        if (text != null) {
+            return text;
+        }
+
+        text = loader.get();
+        texts.put(loader, text);
+        cachedChars += text.length();
+        Iterator<String> leastRecentlyUsed = texts.values().iterator();
+        while (cachedChars > maxCachedChars && texts.size() > 1) {
+            cachedChars -= leastRecentlyUsed.next().length();
+            leastRecentlyUsed.remove();
+        }
+        return text;
+    }
+
+    /**
+     * Returns the number of characters of text in the cache.
+     */
+    synchronized long getCachedChars() {
+        return cachedChars;
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.trackermon.model.show;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a full-text inverted index over the {@code Comment} of each {@code Show}.
+ * Comments are split into lower-cased terms of letters and digits, and each term maps to a posting list of the
+ * shows whose comment contains it, along with how many times it occurs there.
+ * Each comment is tokenized once, when its show is added. Removed shows are only marked as deleted, and the
+ * posting lists are compacted once deleted shows outnumber the live ones, without tokenizing any comment again.
+ * Shows are held by identity, so the index must be given the same instances that are stored in the show list.
+ * Every change to the index increments its version, which lets callers tell when cached lookups are stale.
+ */
+public class CommentIndex {
+
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Show, Integer> docIds = new IdentityHashMap<>();
+    private final List<Show> docs = new ArrayList<>();
+    private final BitSet liveDocs = new BitSet();
+    private long version;
+
+    /**
+     * Adds the terms in the comment of {@code show} to the index.
+     */
+    public void add(Show show) {
+        requireNonNull(show);
+        if (docIds.containsKey(show)) {
+            return;
+        }
+        int docId = docs.size();
+        docs.add(show);
+        docIds.put(show, docId);
+        liveDocs.set(docId);
+
+        Map<String, int[]> termFrequencies = new HashMap<>();
+        for (String term : tokenize(show.getComment().getUncachedText())) {
+            termFrequencies.computeIfAbsent(term, unused -> new int[1])[0]++;
+        }
+        termFrequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, unused -> new PostingList()).append(docId, frequency[0]));
+        version++;
+    }
+
+    /**
+     * Removes {@code show} from the index.
+     */
+    public void remove(Show show) {
+        requireNonNull(show);
+        Integer docId = docIds.remove(show);
+        if (docId == null) {
+            return;
+        }
+        docs.set(docId, null);
+        liveDocs.clear(docId);
+        compactIfSparse();
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedShow}.
+     * If both shows have the same comment, {@code editedShow} takes over the postings of {@code target}
+     * instead of having its comment tokenized again.
+     */
+    public void replace(Show target, Show editedShow) {
+        requireNonNull(target);
+        requireNonNull(editedShow);
+        Integer docId = docIds.get(target);
+        if (docId == null || !target.getComment().equals(editedShow.getComment())) {
+            remove(target);
+            add(editedShow);
+            return;
+        }
+        docIds.remove(target);
+        docIds.put(editedShow, docId);
+        docs.set(docId, editedShow);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this index with the shows in {@code shows}.
+     * Shows that are already in the index keep their postings, so only the comments of new shows are tokenized.
+     */
+    public void setShows(Iterable<Show> shows) {
+        requireNonNull(shows);
+        Set<Show> replacement = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Show show : shows) {
+            replacement.add(show);
+        }
+        for (Show show : new ArrayList<>(docIds.keySet())) {
+            if (!replacement.contains(show)) {
+                remove(show);
+            }
+        }
+        for (Show show : replacement) {
+            add(show);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the version of this index, which changes whenever the index is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an upper bound on the number of shows whose comment contains every term in {@code keywords},
+     * which is the length of the shortest posting list of the terms.
+     */
+    public int estimateMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = Integer.MAX_VALUE;
+        for (String keyword : keywords) {
+            for (String term : tokenize(keyword)) {
+                PostingList postingList = postings.get(term);
+                estimate = Math.min(estimate, postingList == null ? 0 : postingList.size());
+            }
+        }
+        return estimate == Integer.MAX_VALUE ? 0 : estimate;
+    }
+
+    /**
+     * Returns the shows whose comment contains every term in {@code keywords}, mapped to the total number of
+     * times those terms occur in the comment.
+     * The posting lists of the terms are intersected starting from the shortest.
+     * The returned map compares shows by identity and must not be modified.
+     */
+    public Map<Show, Integer> getShowsMatchingAll(List<String> keywords) {
+        requireNonNull(keywords);
+        List<PostingList> postingLists = new ArrayList<>();
+        for (String keyword : keywords) {
+            for (String term : tokenize(keyword)) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    return Collections.emptyMap();
+                }
+                postingLists.add(postingList);
+            }
+        }
+        if (postingLists.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        postingLists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] matchedDocIds = new int[postingLists.get(0).size()];
+        int[] scores = new int[matchedDocIds.length];
+        int matchCount = postingLists.get(0).decodeInto(matchedDocIds, scores);
+        for (int i = 1; i < postingLists.size() && matchCount > 0; i++) {
+            matchCount = postingLists.get(i).intersect(matchedDocIds, scores, matchCount);
+        }
+
+        Map<Show, Integer> matches = new IdentityHashMap<>();
+        for (int i = 0; i < matchCount; i++) {
+            if (liveDocs.get(matchedDocIds[i])) {
+                matches.put(docs.get(matchedDocIds[i]), scores[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the lower-cased terms in {@code text}, which are its longest runs of letters and digits.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermChar && start < 0) {
+                start = i;
+            } else if (!isTermChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Drops deleted shows from every posting list and renumbers the live shows, once deleted shows outnumber them.
+     */
+    private void compactIfSparse() {
+        int liveCount = docIds.size();
+        if (docs.size() < MIN_COMPACTION_SIZE || docs.size() - liveCount <= liveCount) {
+            return;
+        }
+
+        int[] newDocIds = new int[docs.size()];
+        List<Show> liveShows = new ArrayList<>(liveCount);
+        for (int docId = liveDocs.nextSetBit(0); docId >= 0; docId = liveDocs.nextSetBit(docId + 1)) {
+            newDocIds[docId] = liveShows.size();
+            liveShows.add(docs.get(docId));
+        }
+        postings.values().removeIf(postingList -> !postingList.compact(liveDocs, newDocIds));
+
+        docs.clear();
+        docs.addAll(liveShows);
+        liveDocs.clear();
+        liveDocs.set(0, liveShows.size());
+        docIds.clear();
+        for (int docId = 0; docId < liveShows.size(); docId++) {
+            docIds.put(liveShows.get(docId), docId);
+        }
+    }
+
+    /**
+     * Represents the shows containing a term, as pairs of document id and term frequency in increasing order
+     * of document id. Each document id is stored as the difference from the previous one, which keeps the
+     * values small for frequent terms.
+     */
+    private static class PostingList {
+        private int[] data = new int[4];
+        private int length;
+        private int size;
+        private int lastDocId;
+
+        int size() {
+            return size;
+        }
+
+        void append(int docId, int frequency) {
+            if (length + 2 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[length++] = docId - lastDocId;
+            data[length++] = frequency;
+            lastDocId = docId;
+            size++;
+        }
+
+        /**
+         * Decodes the postings into {@code docIds} and {@code scores}, and returns the number of postings.
+         */
+        int decodeInto(int[] docIds, int[] scores) {
+            int docId = 0;
+            for (int i = 0, j = 0; i < length; i += 2, j++) {
+                docId += data[i];
+                docIds[j] = docId;
+                scores[j] = data[i + 1];
+            }
+            return size;
+        }
+
+        /**
+         * Keeps only the first {@code count} entries of {@code docIds} that are also in this posting list,
+         * adding the term frequency to their score, and returns the number of entries kept.
+         */
+        int intersect(int[] docIds, int[] scores, int count) {
+            int kept = 0;
+            int docId = 0;
+            int i = 0;
+            for (int j = 0; j < count && i < length; j++) {
+                while (i < length && docId + data[i] < docIds[j]) {
+                    docId += data[i];
+                    i += 2;
+                }
+                if (i < length && docId + data[i] == docIds[j]) {
+                    docIds[kept] = docIds[j];
+                    scores[kept] = scores[j] + data[i + 1];
+                    kept++;
+                }
+            }
+            return kept;
+        }
+
+        /**
+         * Rewrites this posting list with only the documents in {@code liveDocs}, renumbered by
+         * {@code newDocIds}, and returns false if no documents are left.
+         */
+        boolean compact(BitSet liveDocs, int[] newDocIds) {
+            int[] oldData = data;
+            int oldLength = length;
+            data = new int[Math.max(4, oldLength)];
+            length = 0;
+            size = 0;
+            lastDocId = 0;
+            int docId = 0;
+            for (int i = 0; i < oldLength; i += 2) {
+                docId += oldData[i];
+                if (liveDocs.get(docId)) {
+                    append(newDocIds[docId], oldData[i + 1]);
+                }
+            }
+            return size > 0;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.trackermon.model.show;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackermon.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents the Name of the Show.
  * Guarantees: immutable; name is valid as declared in {@link #isValidName(String)}.
@@ -20,6 +22,8 @@ public class Name implements Comparable<Name> {
 
     public final String name;
 
+    private final String key;
+
     /**
      * Constructs a {@code Name} with the provided {@code String}.
      * @param name {@code String}
@@ -28,6 +32,7 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         this.name = name;
+        this.key = name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -38,6 +43,15 @@ public class Name implements Comparable<Name> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the lower-cased form of this {@code Name}, which identifies it case-insensitively.
+     * As a valid name only contains alphanumeric characters and spaces, comparing keys also gives the same
+     * ordering as comparing the upper-cased names.
+     */
+    public String getKey() {
+        return key;
+    }
+
     /**
      * Return {@code String} representation of {@code Name}.
      */
@@ -66,9 +80,13 @@ public class Name implements Comparable<Name> {
         return name.hashCode();
     }
 
+    /**
+     * Compares this name with other lexicographically, ignoring case.
+     * The cached keys are compared, so no strings are allocated per comparison.
+     */
     @Override
     public int compareTo(Name other) {
-        return this.name.toUpperCase().compareTo(other.name.toUpperCase());
+        return key.compareTo(other.key);
     }
 }
 
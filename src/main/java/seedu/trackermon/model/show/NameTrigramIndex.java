@@ -0,0 +1,161 @@
+package seedu.trackermon.model.show;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a trigram index over the case-insensitive {@code Name} key of each {@code Show}.
+ * Every run of three characters in a name maps to the shows whose name contains it, so the shows whose names
+ * contain a keyword can be narrowed down to the intersection of the posting lists of the keyword's trigrams.
+ * Shows are held by identity, so the index must be given the same instances that are stored in the show list.
+ * Every change to the index increments its version, which lets callers tell when cached lookups are stale.
+ */
+public class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Show>> postings = new HashMap<>();
+    private final Set<Show> allShows = newShowSet();
+    private long version;
+
+    /**
+     * Adds {@code show} to the posting list of each trigram of its name.
+     */
+    public void add(Show show) {
+        requireNonNull(show);
+        String key = show.getName().getKey();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            postings.computeIfAbsent(key.substring(i, i + GRAM_LENGTH), unused -> newShowSet()).add(show);
+        }
+        allShows.add(show);
+        version++;
+    }
+
+    /**
+     * Removes {@code show} from the posting list of each trigram of its name.
+     * Trigrams that no longer occur in any name are dropped from the index.
+     */
+    public void remove(Show show) {
+        requireNonNull(show);
+        String key = show.getName().getKey();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            String gram = key.substring(i, i + GRAM_LENGTH);
+            Set<Show> shows = postings.get(gram);
+            if (shows != null && shows.remove(show) && shows.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        allShows.remove(show);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this index with the shows in {@code shows}.
+     */
+    public void setShows(Iterable<Show> shows) {
+        requireNonNull(shows);
+        postings.clear();
+        allShows.clear();
+        for (Show show : shows) {
+            add(show);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the version of this index, which changes whenever the index is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an upper bound on the number of shows whose name contains every keyword in {@code keywords},
+     * which is the size of the shortest posting list of the keywords' trigrams.
+     */
+    public int estimateMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = allShows.size();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            for (int i = 0; i + GRAM_LENGTH <= preppedKeyword.length(); i++) {
+                Set<Show> shows = postings.get(preppedKeyword.substring(i, i + GRAM_LENGTH));
+                estimate = Math.min(estimate, shows == null ? 0 : shows.size());
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the shows whose name contains every keyword in {@code keywords}, ignoring case.
+     * Candidates are found by intersecting the posting lists of the keywords' trigrams, starting from the
+     * smallest, and only the candidates are then checked against the keywords.
+     * Keywords shorter than a trigram do not narrow down the candidates, but are still checked.
+     * The returned set compares shows by identity and must not be modified.
+     */
+    public Set<Show> getShowsMatchingAll(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> preppedKeywords = new ArrayList<>(keywords.size());
+        List<Set<Show>> postingLists = new ArrayList<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            for (int i = 0; i + GRAM_LENGTH <= preppedKeyword.length(); i++) {
+                Set<Show> shows = postings.get(preppedKeyword.substring(i, i + GRAM_LENGTH));
+                if (shows == null) {
+                    return Collections.emptySet();
+                }
+                postingLists.add(shows);
+            }
+            preppedKeywords.add(preppedKeyword);
+        }
+
+        Set<Show> candidates = allShows;
+        if (!postingLists.isEmpty()) {
+            postingLists.sort(Comparator.comparingInt(Set::size));
+            candidates = postingLists.get(0);
+        }
+        Set<Show> result = newShowSet();
+        for (Show candidate : candidates) {
+            if (isInAll(candidate, postingLists) && containsAll(candidate, preppedKeywords)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInAll(Show show, List<Set<Show>> postingLists) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(show)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the name of {@code show} contains every keyword, since sharing every trigram of a keyword
+     * does not guarantee that the trigrams occur next to each other.
+     */
+    private static boolean containsAll(Show show, List<String> preppedKeywords) {
+        String key = show.getName().getKey();
+        for (String preppedKeyword : preppedKeywords) {
+            if (!key.contains(preppedKeyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Show> newShowSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.trackermon.model.show;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.trackermon.commons.core.LogsCenter;
+
+/**
+ * Holds ASCII text as one byte per character outside of the heap, at an offset in a segment shared with other texts.
+ * Segments are mapped from a temporary file, so they do not count against the limit on direct memory, and the
+ * operating system can page them out while they are not used. The space of a text is not reused once the text is no
+ * longer needed, and the file is deleted when the app exits. If the file cannot be created, segments are kept on the
+ * heap instead, which still takes half of the memory of a {@code String}.
+ */
+class OffHeapText implements Supplier<String> {
+
+    /** The size of each segment, which is at least as long as the longest comment. */
+    static final int SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(OffHeapText.class);
+
+    // Guarded by OffHeapText.class
+    private static FileChannel segmentFile;
+    private static long segmentFileSize;
+    private static boolean isSegmentFileUnavailable;
+    private static ByteBuffer currentSegment;
+
+    private final ByteBuffer segment;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Copies {@code text}, which must only contain ASCII characters, out of the heap.
+     */
+    OffHeapText(String text) {
+        byte[] ascii = text.getBytes(US_ASCII);
+        assert ascii.length <= SEGMENT_SIZE;
+        synchronized (OffHeapText.class) {
+            if (currentSegment == null || currentSegment.remaining() < ascii.length) {
+                currentSegment = newSegment();
+            }
+            segment = currentSegment;
+            offset = currentSegment.position();
+            currentSegment.put(ascii);
+        }
+        length = ascii.length;
+    }
+
+    /**
+     * Returns a new copy of the text on the heap.
+     */
+    @Override
+    public String get() {
+        byte[] ascii = new byte[length];
+        ByteBuffer text = segment.duplicate();
+        text.position(offset);
+        text.get(ascii);
+        return new String(ascii, US_ASCII);
+    }
+
+    /**
+     * Returns a new empty segment, mapped from the end of the segment file if it can be.
+     */
+    private static ByteBuffer newSegment() {
+        assert Thread.holdsLock(OffHeapText.class);
+        if (!isSegmentFileUnavailable) {
+            try {
+                if (segmentFile == null) {
+                    Path path = Files.createTempFile("trackermon-comments", ".tmp");
+                    segmentFile = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                            StandardOpenOption.DELETE_ON_CLOSE);
+                }
+                ByteBuffer segment = segmentFile.map(FileChannel.MapMode.READ_WRITE, segmentFileSize, SEGMENT_SIZE);
+                segmentFileSize += SEGMENT_SIZE;
+                return segment;
+            } catch (IOException e) {
+                logger.warning("Could not create a file for long comments, so they are kept on the heap: " + e);
+                isSegmentFileUnavailable = true;
+            }
+        }
+        return ByteBuffer.allocate(SEGMENT_SIZE);
+    }
+}
@@ -91,13 +91,13 @@ public class Show {
             return false;
         }
 
+        // The comment is compared last, since it may have to be loaded
         Show otherShow = (Show) other;
-        boolean isSameName = otherShow.getName().equals(getName());
-        boolean isSameTags = otherShow.getTags().equals(getTags());
-        boolean isSameStatus = otherShow.getStatus().equals(getStatus());
-        boolean isSameComment = otherShow.getComment().equals(getComment());
-        boolean isSameRating = otherShow.getRating().equals(getRating());
-        return isSameName && isSameTags && isSameStatus && isSameComment && isSameRating;
+        return otherShow.getName().equals(getName())
+                && otherShow.getStatus().equals(getStatus())
+                && otherShow.getRating().equals(getRating())
+                && otherShow.getTags().equals(getTags())
+                && otherShow.getComment().equals(getComment());
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.trackermon.model.show;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Predicate;
 
 import seedu.trackermon.commons.util.StringUtil;
@@ -35,6 +36,18 @@ public class ShowContainsKeywordsPredicate implements Predicate<Show> {
                 || StringUtil.containsFragmentedWordIgnoreCase(show.getRating().toString(), keyword));
     }
 
+    /**
+     * Returns true if every show this predicate matches is also matched by {@code previous}, which is the case
+     * when each keyword contains one of the keywords of {@code previous}, ignoring case.
+     * @param previous the predicate to compare with.
+     * @return returns true if this predicate is a refinement of {@code previous}.
+     */
+    public boolean refines(ShowContainsKeywordsPredicate previous) {
+        return keywords.stream().allMatch(keyword -> previous.keywords.stream()
+                .anyMatch(previousKeyword -> keyword.toLowerCase(Locale.ROOT)
+                        .contains(previousKeyword.toLowerCase(Locale.ROOT))));
+    }
+
     /**
      * Returns whether two objects are equal.
      * @param other the second object to be compared with.
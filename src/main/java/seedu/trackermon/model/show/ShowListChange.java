@@ -0,0 +1,73 @@
+package seedu.trackermon.model.show;
+
+/**
+ * Represents a change made to a {@code UniqueShowList}, as a link in the chain of the changes made to it.
+ * Each change links to the change made after it, so the changes made since an earlier change can be followed from
+ * it without looking at the shows that did not change. A list only keeps its last change, so the changes before the
+ * earliest one still referred to elsewhere can be garbage collected.
+ * A list that is copied continues the chain of the list it was copied from. If both of them are changed, the first
+ * change continues the chain, and the other list starts a new chain, which cannot be reached from the old one.
+ */
+public class ShowListChange {
+
+    /**
+     * Represents the kinds of changes. A reset replaces the shows in a way that is not described by the change,
+     * such as a sort.
+     */
+    public enum Type { ADD, SET, REMOVE, CLEAR, RESET }
+
+    private final Type type;
+    private final int index;
+    private final Show show;
+    private volatile ShowListChange next;
+
+    private ShowListChange(Type type, int index, Show show) {
+        this.type = type;
+        this.index = index;
+        this.show = show;
+    }
+
+    /**
+     * Returns a change that starts a new chain, for the shows of a new list.
+     */
+    static ShowListChange start() {
+        return new ShowListChange(Type.RESET, -1, null);
+    }
+
+    /**
+     * Returns a change made after this one, of {@code type} at {@code index} of the list, which leaves {@code show}
+     * there. It is linked after this change, unless another change already is, in which case it starts a new chain.
+     */
+    synchronized ShowListChange then(Type type, int index, Show show) {
+        ShowListChange change = new ShowListChange(type, index, show);
+        if (next == null) {
+            next = change;
+        }
+        return change;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the position in the list of the show that was set or removed, or that was added.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the show that was added or set, or null for other kinds of changes.
+     */
+    public Show getShow() {
+        return show;
+    }
+
+    /**
+     * Returns the change made after this one, or null if there is none yet.
+     */
+    public ShowListChange getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.trackermon.model.show;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents an immutable specification of how to sort {@code Show}s, as an ordered list of
+ * {@code Field} and {@code Direction} pairs. Earlier keys take precedence over later ones.
+ * The specification is compiled once into a single comparator when it is constructed.
+ */
+public final class SortSpec {
+
+    /**
+     * Represents a field of a {@code Show} that can be sorted on.
+     */
+    public enum Field {
+        NAME(new NameComparator()),
+        STATUS(new StatusComparator()),
+        RATING(new RatingComparator()),
+        TAG(new TagComparator());
+
+        private final Comparator<Show> comparator;
+
+        Field(Comparator<Show> comparator) {
+            this.comparator = comparator;
+        }
+
+        /**
+         * Returns the comparator that sorts by this field in ascending order.
+         */
+        public Comparator<Show> getComparator() {
+            return comparator;
+        }
+    }
+
+    /**
+     * Represents the direction to sort a {@code Field} in.
+     */
+    public enum Direction {
+        ASC,
+        DSC
+    }
+
+    /**
+     * Represents a single {@code Field} to sort on and its {@code Direction}.
+     */
+    public static final class Key {
+
+        public final Field field;
+        public final Direction direction;
+
+        /**
+         * Constructs a {@code Key} that sorts by {@code field} in {@code direction}.
+         */
+        public Key(Field field, Direction direction) {
+            requireAllNonNull(field, direction);
+            this.field = field;
+            this.direction = direction;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Key // instanceof handles nulls
+                    && field == ((Key) other).field
+                    && direction == ((Key) other).direction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, direction);
+        }
+
+        @Override
+        public String toString() {
+            return field + " " + direction;
+        }
+    }
+
+    private final List<Key> keys;
+    private final Comparator<Show> comparator;
+
+    /**
+     * Constructs a {@code SortSpec} with the given {@code keys}, in order of precedence.
+     * An empty list of keys sorts by {@code Name} in ascending order.
+     */
+    public SortSpec(List<Key> keys) {
+        requireAllNonNull(keys);
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        this.comparator = compile(this.keys);
+    }
+
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the comparator compiled from this specification.
+     */
+    public Comparator<Show> toComparator() {
+        return comparator;
+    }
+
+    /**
+     * Compiles {@code keys} into a single comparator.
+     * A lone ascending key uses the field's own comparator, while several keys are fused into one comparator
+     * that walks the keys in a loop instead of through a chain of {@code thenComparing} wrappers.
+     */
+    private static Comparator<Show> compile(List<Key> keys) {
+        if (keys.isEmpty()) {
+            return Field.NAME.getComparator();
+        }
+        if (keys.size() == 1 && keys.get(0).direction == Direction.ASC) {
+            return keys.get(0).field.getComparator();
+        }
+        return new FusedComparator(keys);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortSpec // instanceof handles nulls
+                && keys.equals(((SortSpec) other).keys)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keys.toString();
+    }
+
+    /**
+     * Compares two {@code Show}s by each key of a {@code SortSpec} in turn, stopping at the first difference.
+     */
+    private static class FusedComparator implements Comparator<Show> {
+
+        private final List<Comparator<Show>> comparators;
+        private final boolean[] isDescending;
+
+        FusedComparator(List<Key> keys) {
+            comparators = new ArrayList<>(keys.size());
+            isDescending = new boolean[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                comparators.add(keys.get(i).field.getComparator());
+                isDescending[i] = keys.get(i).direction == Direction.DSC;
+            }
+        }
+
+        @Override
+        public int compare(Show show, Show other) {
+            requireNonNull(show);
+            requireNonNull(other);
+            for (int i = 0; i < isDescending.length; i++) {
+                int result = comparators.get(i).compare(show, other);
+                if (result != 0) {
+                    return isDescending[i] ? Integer.compare(0, result) : result;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FusedComparator // instanceof handles nulls
+                    && comparators.equals(((FusedComparator) other).comparators)
+                    && Arrays.equals(isDescending, ((FusedComparator) other).isDescending));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * comparators.hashCode() + Arrays.hashCode(isDescending);
+        }
+    }
+}
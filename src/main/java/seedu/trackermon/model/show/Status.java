@@ -1,5 +1,7 @@
 package seedu.trackermon.model.show;
 
+import java.util.Locale;
+
 /***
  * Represents a Show's watch status.
  */
@@ -25,7 +27,7 @@ public enum Status {
     }
 
     public static Status getStatus(String status) {
-        status = status.trim().toUpperCase();
+        status = status.trim().toUpperCase(Locale.ROOT);
         //find match pattern similar to "plan-to-watch" for example, user key in "plan to watch"
         if (status.matches(PATTERN)) {
             status = PLAN_TO_WATCH.name();
@@ -47,7 +49,7 @@ public enum Status {
      * @param status provided {@code string}.
      */
     public static boolean isValidStatus(String status) {
-        status = status.toUpperCase().trim();
+        status = status.toUpperCase(Locale.ROOT).trim();
         //find match pattern similar to "plan-to-watch" for example, user key in "plan to watch"
         if (status.matches(PATTERN)) {
             return true;
@@ -0,0 +1,144 @@
+package seedu.trackermon.model.show;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents bitmap indexes over the {@code Status} and {@code Rating} of each {@code Show} in a list.
+ * For every status and every rating, bit {@code i} is set if the show at position {@code i} of the list has it,
+ * so shows with any of several values are found with a bitwise OR, and shows matching both fields with a bitwise
+ * AND. The index must be updated alongside every change to the positions of the shows in the list.
+ * Every change to the index increments its version, which lets callers tell when cached lookups are stale.
+ */
+public class StatusRatingIndex {
+
+    private final BitSet[] statusBits = new BitSet[Status.values().length];
+    private final BitSet[] ratingBits = new BitSet[Rating.MAX_RATING + 1];
+    private int size;
+    private long version;
+
+    /**
+     * Creates an empty {@code StatusRatingIndex}.
+     */
+    public StatusRatingIndex() {
+        for (int i = 0; i < statusBits.length; i++) {
+            statusBits[i] = new BitSet();
+        }
+        for (int i = 0; i < ratingBits.length; i++) {
+            ratingBits[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Indexes {@code show} as the show at the end of the list.
+     */
+    public void add(Show show) {
+        requireNonNull(show);
+        setBits(size, show);
+        size++;
+        version++;
+    }
+
+    /**
+     * Indexes {@code editedShow} in place of {@code target} at position {@code index} of the list.
+     */
+    public void set(int index, Show target, Show editedShow) {
+        requireAllNonNull(target, editedShow);
+        statusBits[target.getStatus().ordinal()].clear(index);
+        ratingBits[target.getRating().rating].clear(index);
+        setBits(index, editedShow);
+        version++;
+    }
+
+    /**
+     * Removes the show at position {@code index} of the list, moving every later show down by one position.
+     */
+    public void remove(int index) {
+        for (int i = 0; i < statusBits.length; i++) {
+            statusBits[i] = removeBit(statusBits[i], index);
+        }
+        for (int i = 0; i < ratingBits.length; i++) {
+            ratingBits[i] = removeBit(ratingBits[i], index);
+        }
+        size--;
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this index with the shows in {@code shows}, in order.
+     */
+    public void setShows(List<Show> shows) {
+        requireNonNull(shows);
+        for (BitSet bits : statusBits) {
+            bits.clear();
+        }
+        for (BitSet bits : ratingBits) {
+            bits.clear();
+        }
+        size = 0;
+        for (Show show : shows) {
+            setBits(size++, show);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the version of this index, which changes whenever the index is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the positions of the shows that have any of {@code statuses} and any of {@code ratings}.
+     * An empty set of statuses or ratings does not restrict that field.
+     */
+    public BitSet getPositionsMatching(Set<Status> statuses, Set<Rating> ratings) {
+        requireAllNonNull(statuses, ratings);
+        BitSet positions = new BitSet(size);
+        positions.set(0, size);
+        if (!statuses.isEmpty()) {
+            BitSet statusPositions = new BitSet(size);
+            for (Status status : statuses) {
+                statusPositions.or(statusBits[status.ordinal()]);
+            }
+            positions.and(statusPositions);
+        }
+        if (!ratings.isEmpty()) {
+            BitSet ratingPositions = new BitSet(size);
+            for (Rating rating : ratings) {
+                ratingPositions.or(ratingBits[rating.rating]);
+            }
+            positions.and(ratingPositions);
+        }
+        return positions;
+    }
+
+    private void setBits(int index, Show show) {
+        statusBits[show.getStatus().ordinal()].set(index);
+        ratingBits[show.getRating().rating].set(index);
+    }
+
+    /**
+     * Returns {@code bits} without bit {@code index}, with every later bit moved down by one position.
+     * The bits are shifted a word at a time.
+     */
+    private static BitSet removeBit(BitSet bits, int index) {
+        long[] words = bits.toLongArray();
+        int wordIndex = index >>> 6;
+        if (wordIndex >= words.length) {
+            return bits;
+        }
+        long lowMask = (1L << index) - 1;
+        words[wordIndex] = (words[wordIndex] & lowMask) | ((words[wordIndex] >>> 1) & ~lowMask);
+        for (int i = wordIndex + 1; i < words.length; i++) {
+            words[i - 1] |= words[i] << 63;
+            words[i] >>>= 1;
+        }
+        return BitSet.valueOf(words);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.trackermon.model.show;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Represents an inverted index from each {@code Tag} name to the {@code Show}s carrying that tag.
+ * Shows are held by identity, so the index must be given the same instances that are stored in the show list.
+ * Every change to the index increments its version, which lets callers tell when cached lookups are stale.
+ */
+public class TagIndex {
+
+    private final Map<String, Set<Show>> postings = new HashMap<>();
+    private long version;
+
+    /**
+     * Adds {@code show} to the posting list of each of its tags.
+     */
+    public void add(Show show) {
+        requireNonNull(show);
+        for (Tag tag : show.getTags()) {
+            postings.computeIfAbsent(tag.tagName, unused -> newShowSet()).add(show);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code show} from the posting list of each of its tags.
+     * Tags that are no longer carried by any show are dropped from the index.
+     */
+    public void remove(Show show) {
+        requireNonNull(show);
+        for (Tag tag : show.getTags()) {
+            Set<Show> shows = postings.get(tag.tagName);
+            if (shows != null && shows.remove(show) && shows.isEmpty()) {
+                postings.remove(tag.tagName);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the contents of this index with the shows in {@code shows}.
+     */
+    public void setShows(Iterable<Show> shows) {
+        requireNonNull(shows);
+        postings.clear();
+        for (Show show : shows) {
+            add(show);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the version of this index, which changes whenever the index is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an upper bound on the number of shows with a tag containing every keyword in {@code keywords},
+     * which is the smallest total size of the posting lists of the tags containing each keyword.
+     */
+    public int estimateMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = Integer.MAX_VALUE;
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            int keywordEstimate = 0;
+            for (Map.Entry<String, Set<Show>> entry : postings.entrySet()) {
+                if (entry.getKey().contains(preppedKeyword)) {
+                    keywordEstimate += entry.getValue().size();
+                }
+            }
+            estimate = Math.min(estimate, keywordEstimate);
+        }
+        return estimate == Integer.MAX_VALUE ? 0 : estimate;
+    }
+
+    /**
+     * Returns the shows with a tag containing every keyword in {@code keywords}, ignoring case.
+     * Each keyword is resolved against the tag names in the index, and the posting lists of the keywords
+     * are then intersected starting from the smallest, so the shows themselves are never scanned.
+     * The returned set compares shows by identity and must not be modified.
+     */
+    public Set<Show> getShowsMatchingAll(List<String> keywords) {
+        requireNonNull(keywords);
+        List<Set<Show>> matchesByKeyword = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            Set<Show> matches = getShowsMatching(keyword);
+            if (matches.isEmpty()) {
+                return Collections.emptySet();
+            }
+            matchesByKeyword.add(matches);
+        }
+        if (matchesByKeyword.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        matchesByKeyword.sort(Comparator.comparingInt(Set::size));
+        Set<Show> result = newShowSet();
+        result.addAll(matchesByKeyword.get(0));
+        for (int i = 1; i < matchesByKeyword.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchesByKeyword.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the shows with a tag containing {@code keyword}, ignoring case.
+     * A keyword that is a complete tag name is looked up directly; the tag names are only scanned to find
+     * longer tags that also contain the keyword.
+     */
+    private Set<Show> getShowsMatching(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        Set<Show> exactMatches = postings.getOrDefault(preppedKeyword, Collections.emptySet());
+        Set<Show> matches = null;
+        for (Map.Entry<String, Set<Show>> entry : postings.entrySet()) {
+            if (entry.getValue() == exactMatches || !entry.getKey().contains(preppedKeyword)) {
+                continue;
+            }
+            if (matches == null) {
+                matches = newShowSet();
+                matches.addAll(exactMatches);
+            }
+            matches.addAll(entry.getValue());
+        }
+        return matches == null ? exactMatches : matches;
+    }
+
+    private static Set<Show> newShowSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,29 +3,55 @@ package seedu.trackermon.model.show;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.trackermon.model.show.exceptions.DuplicatedShowException;
 import seedu.trackermon.model.show.exceptions.ShowNotFoundException;
+import seedu.trackermon.model.show.query.FindQuery;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
+import seedu.trackermon.model.show.query.QueryPlanner;
 
 /**
  * Represents a list of unique shows.
+ * Shows are also indexed by their case-insensitive {@code Name} key, so that duplicate checks do not need to
+ * scan the whole list, and by the trigrams of their names, by their tags, by the terms in their comments and
+ * by their position for each status and rating, so that searches on those fields do not need to either.
+ * The indexes must be updated alongside every change to {@code internalList}, and before it, since a
+ * {@code FilteredList} tests the changed shows against a {@code FindQueryPredicate} while the change is being
+ * reported, and keeps the result.
+ * Every change is also recorded as a {@code ShowListChange}, so that storage can save only the changes made since
+ * it last saved the list.
  */
 public class UniqueShowList implements Iterable<Show> {
 
     private final ObservableList<Show> internalList = FXCollections.observableArrayList();
     private final ObservableList<Show> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Show> nameIndex = new HashMap<>();
+    private final NameTrigramIndex trigramIndex = new NameTrigramIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final CommentIndex commentIndex = new CommentIndex();
+    private final StatusRatingIndex statusRatingIndex = new StatusRatingIndex();
+    private final QueryPlanner queryPlanner = new QueryPlanner(internalUnmodifiableList, trigramIndex, tagIndex,
+            statusRatingIndex, commentIndex);
+    private ShowListChange lastChange = ShowListChange.start();
 
     /**
      * Returns true if the list contains an equivalent show as the given argument.
      */
     public boolean contains(Show toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameShow);
+        return nameIndex.containsKey(toCheck.getName().getKey());
     }
 
     /**
@@ -37,7 +63,13 @@ public class UniqueShowList implements Iterable<Show> {
         if (contains(toAdd)) {
             throw new DuplicatedShowException();
         }
+        nameIndex.put(toAdd.getName().getKey(), toAdd);
+        trigramIndex.add(toAdd);
+        tagIndex.add(toAdd);
+        commentIndex.add(toAdd);
+        statusRatingIndex.add(toAdd);
         internalList.add(toAdd);
+        lastChange = lastChange.then(ShowListChange.Type.ADD, internalList.size() - 1, toAdd);
     }
 
     /**
@@ -48,7 +80,7 @@ public class UniqueShowList implements Iterable<Show> {
     public void setShow(Show target, Show editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOfStored(target);
         if (index == -1) {
             throw new ShowNotFoundException();
         }
@@ -57,7 +89,17 @@ public class UniqueShowList implements Iterable<Show> {
             throw new DuplicatedShowException();
         }
 
+        Show replaced = internalList.get(index);
+        nameIndex.remove(replaced.getName().getKey());
+        nameIndex.put(editedPerson.getName().getKey(), editedPerson);
+        trigramIndex.remove(replaced);
+        trigramIndex.add(editedPerson);
+        tagIndex.remove(replaced);
+        tagIndex.add(editedPerson);
+        commentIndex.replace(replaced, editedPerson);
+        statusRatingIndex.set(index, replaced, editedPerson);
         internalList.set(index, editedPerson);
+        lastChange = lastChange.then(ShowListChange.Type.SET, index, editedPerson);
     }
 
     /**
@@ -66,10 +108,37 @@ public class UniqueShowList implements Iterable<Show> {
      */
     public void remove(Show toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            //to-do: Add new exception
+        int index = indexOfStored(toRemove);
+        if (index == -1) {
             throw new ShowNotFoundException();
         }
+        String key = toRemove.getName().getKey();
+        Show stored = internalList.get(index);
+        nameIndex.remove(key);
+        trigramIndex.remove(stored);
+        tagIndex.remove(stored);
+        commentIndex.remove(stored);
+        statusRatingIndex.remove(index);
+        internalList.remove(index);
+        lastChange = lastChange.then(ShowListChange.Type.REMOVE, index, null);
+    }
+
+    /**
+     * Returns the position of the show in the list that is equal to {@code show}, or -1 if there is none.
+     * The show is looked up by its name and then found by identity, so {@code show} is compared with at most one
+     * show, rather than with every show before it, which may need their comments to be loaded.
+     */
+    private int indexOfStored(Show show) {
+        Show stored = nameIndex.get(show.getName().getKey());
+        if (stored == null || !stored.equals(show)) {
+            return -1;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == stored) {
+                return i;
+            }
+        }
+        throw new AssertionError("Show in the name index is not in the list: " + stored);
     }
 
     /**
@@ -77,20 +146,82 @@ public class UniqueShowList implements Iterable<Show> {
      */
     public void setShows(UniqueShowList replacement) {
         requireNonNull(replacement);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        trigramIndex.setShows(replacement.internalList);
+        tagIndex.setShows(replacement.internalList);
+        commentIndex.setShows(replacement.internalList);
+        statusRatingIndex.setShows(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        recordReplacement();
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * Replaces the contents of this list with {@code lists}.
+     * {@code lists} must not contain duplicate shows. Uniqueness is validated in a single pass over
+     * {@code lists}, and this list is left unchanged if any duplicates are found.
+     * @throws DuplicatedShowException listing the name of every duplicated show.
      */
     public void setShows(List<Show> lists) {
         requireAllNonNull(lists);
-        if (!showsAreUnique(lists)) {
-            throw new DuplicatedShowException();
-        }
+        Map<String, Show> replacementIndex = indexByName(lists);
 
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        trigramIndex.setShows(lists);
+        tagIndex.setShows(lists);
+        commentIndex.setShows(lists);
+        statusRatingIndex.setShows(lists);
         internalList.setAll(lists);
+        recordReplacement();
+    }
+
+    /**
+     * Sorts the list in place according to {@code comparator}.
+     * The sorted permutation is applied with a single {@code setAll}, so listeners receive one change event.
+     * Uniqueness is not re-validated since reordering the list cannot introduce duplicate shows.
+     */
+    public void sort(Comparator<? super Show> comparator) {
+        requireNonNull(comparator);
+        Show[] sortedShows = internalList.toArray(new Show[0]);
+        Arrays.sort(sortedShows, comparator);
+        statusRatingIndex.setShows(Arrays.asList(sortedShows));
+        internalList.setAll(sortedShows);
+        lastChange = lastChange.then(ShowListChange.Type.RESET, -1, null);
+    }
+
+    /**
+     * Records that every show in the list has been replaced.
+     */
+    private void recordReplacement() {
+        ShowListChange.Type type = internalList.isEmpty() ? ShowListChange.Type.CLEAR : ShowListChange.Type.RESET;
+        lastChange = lastChange.then(type, -1, null);
+    }
+
+    /**
+     * Returns the last change made to this list.
+     */
+    public ShowListChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Continues the chain of changes that ends with {@code change}, which must be the last change made to a list with
+     * the same shows as this list, so that the changes made to this list can be followed from the changes of that
+     * list.
+     */
+    public void continueChanges(ShowListChange change) {
+        requireNonNull(change);
+        lastChange = change;
+    }
+
+    /**
+     * Returns a predicate that tests whether a show in this list matches {@code query}, planned over the
+     * indexes of this list. The predicate stays up to date as this list changes.
+     */
+    public FindQueryPredicate getFindQueryPredicate(FindQuery query) {
+        requireNonNull(query);
+        return new FindQueryPredicate(queryPlanner, query);
     }
 
     /**
@@ -126,16 +257,22 @@ public class UniqueShowList implements Iterable<Show> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code lists} indexed by the case-insensitive key of each show's {@code Name}.
+     * @throws DuplicatedShowException if {@code lists} does not contain only unique shows.
      */
-    private boolean showsAreUnique(List<Show> lists) {
-        for (int i = 0; i < lists.size() - 1; i++) {
-            for (int j = i + 1; j < lists.size(); j++) {
-                if (lists.get(i).isSameShow(lists.get(j))) {
-                    return false;
-                }
+    private static Map<String, Show> indexByName(List<Show> lists) {
+        Map<String, Show> index = new HashMap<>(lists.size() * 2);
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        for (Show show : lists) {
+            Show existing = index.putIfAbsent(show.getName().getKey(), show);
+            if (existing != null) {
+                duplicateNames.add(existing.getName().name);
             }
         }
-        return true;
+
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatedShowException(new ArrayList<>(duplicateNames));
+        }
+        return index;
     }
 }
@@ -1,14 +1,38 @@
 package seedu.trackermon.model.show.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents a runtime exception causes by having duplicated shows.
  */
 public class DuplicatedShowException extends RuntimeException {
 
+    private static final String MESSAGE_DUPLICATE_SHOWS = "Operation would result in duplicate shows";
+
+    private final List<String> duplicateNames;
+
     /**
      * Constructs a new {@code DuplicatedShowException} with the specified given error message.
      */
     public DuplicatedShowException() {
-        super("Operation would result in duplicate shows");
+        super(MESSAGE_DUPLICATE_SHOWS);
+        duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a new {@code DuplicatedShowException} that lists every show name which is duplicated.
+     * @param duplicateNames names of the shows that appear more than once.
+     */
+    public DuplicatedShowException(List<String> duplicateNames) {
+        super(MESSAGE_DUPLICATE_SHOWS + ": " + String.join(", ", duplicateNames));
+        this.duplicateNames = Collections.unmodifiableList(duplicateNames);
+    }
+
+    /**
+     * Returns the names of the duplicated shows, or an empty list if they were not recorded.
+     */
+    public List<String> getDuplicateNames() {
+        return duplicateNames;
     }
 }
@@ -0,0 +1,142 @@
+package seedu.trackermon.model.show.query;
+
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.trackermon.model.show.CommentIndex;
+import seedu.trackermon.model.show.RatingContainsKeywordsPredicate;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.StatusContainsKeywordsPredicate;
+import seedu.trackermon.model.show.TagsContainsKeywordsPredicate;
+
+/**
+ * Represents a condition on a single field of a {@code Show} in a {@code FindQuery}.
+ * A name, tag or comment clause matches shows that match every keyword, while a status or rating clause
+ * matches shows that have any of the keywords.
+ * Guarantees: immutable.
+ */
+public final class FindClause {
+
+    /**
+     * Represents a field of a {@code Show} that a {@code FindClause} can search.
+     */
+    public enum Field {
+        NAME("name", "contains all of", 1),
+        STATUS("status", "is any of", 1),
+        TAG("tag", "contains all of", 2),
+        RATING("rating", "is any of", 1),
+        COMMENT("comment", "has all terms", 50);
+
+        private final String name;
+        private final String operator;
+        private final int scanCost;
+
+        Field(String name, String operator, int scanCost) {
+            this.name = name;
+            this.operator = operator;
+            this.scanCost = scanCost;
+        }
+
+        /**
+         * Returns the estimated cost of checking a single show against a clause on this field,
+         * relative to the cost of looking up a single show in an index.
+         */
+        public int getScanCost() {
+            return scanCost;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private final Field field;
+    private final List<String> keywords;
+
+    /**
+     * Creates a {@code FindClause} that searches {@code field} for {@code keywords}.
+     */
+    public FindClause(Field field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        this.field = field;
+        this.keywords = List.copyOf(keywords);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns a predicate that checks a single show against this clause without using any index.
+     */
+    public Predicate<Show> toScanPredicate() {
+        switch (field) {
+        case NAME:
+            // Matches the same shows as a NameContainsKeywordsPredicate for each keyword, but compares with the
+            // lower-cased name that is kept by each name, rather than lower-casing the name for every keyword
+            String[] preppedKeywords = keywords.stream()
+                    .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                    .toArray(String[]::new);
+            return show -> {
+                String key = show.getName().getKey();
+                for (String preppedKeyword : preppedKeywords) {
+                    if (!key.contains(preppedKeyword)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        case STATUS:
+            return new StatusContainsKeywordsPredicate(keywords);
+        case TAG:
+            return keywords.stream()
+                    .map(keyword -> (Predicate<Show>) new TagsContainsKeywordsPredicate(List.of(keyword)))
+                    .reduce(Predicate::and).orElse(show -> true);
+        case RATING:
+            return new RatingContainsKeywordsPredicate(keywords);
+        case COMMENT:
+            Set<String> terms = new HashSet<>();
+            keywords.forEach(keyword -> terms.addAll(CommentIndex.tokenize(keyword)));
+            return show -> new HashSet<>(CommentIndex.tokenize(show.getComment().getUncachedText()))
+                    .containsAll(terms);
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * Returns whether two objects are equal.
+     * @param other the second object to be compared with.
+     * @return true if both objects are equal, else return false.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindClause // instanceof handles nulls
+                && field == ((FindClause) other).field
+                && keywords.equals(((FindClause) other).keywords)); // state check
+    }
+
+    /**
+     * Returns the hashcode of {@code FindClause}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * field.hashCode() + keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + field.operator + " " + keywords;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.trackermon.model.show.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a find query as a tree of {@code FindClause}s, all of which a {@code Show} must match.
+ * The clauses are kept in the order they were given; the order they are evaluated in is decided by
+ * a {@code QueryPlanner}.
+ * Guarantees: immutable.
+ */
+public final class FindQuery {
+
+    private final List<FindClause> clauses;
+
+    /**
+     * Creates a {@code FindQuery} that matches shows matching every clause in {@code clauses}.
+     */
+    public FindQuery(List<FindClause> clauses) {
+        requireNonNull(clauses);
+        this.clauses = List.copyOf(clauses);
+    }
+
+    public List<FindClause> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * Returns the clause of this query on {@code field}, if there is one.
+     */
+    public Optional<FindClause> getClause(FindClause.Field field) {
+        return clauses.stream().filter(clause -> clause.getField() == field).findFirst();
+    }
+
+    /**
+     * Returns whether two objects are equal.
+     * @param other the second object to be compared with.
+     * @return true if both objects are equal, else return false.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindQuery // instanceof handles nulls
+                && clauses.equals(((FindQuery) other).clauses)); // state check
+    }
+
+    /**
+     * Returns the hashcode of {@code FindQuery}
+     */
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return clauses.stream().map(FindClause::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
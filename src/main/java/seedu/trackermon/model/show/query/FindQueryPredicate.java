@@ -0,0 +1,109 @@
+package seedu.trackermon.model.show.query;
+
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.trackermon.model.show.Show;
+
+/**
+ * Tests that a {@code Show} matches a {@code FindQuery}, using a {@code QueryPlanner}.
+ * The query is planned and run once, and again only when the shows have changed since it last ran.
+ */
+public class FindQueryPredicate implements Predicate<Show> {
+    private final QueryPlanner planner;
+    private final FindQuery query;
+
+    private QueryPlan plan;
+    private Set<Show> matches;
+    private Map<Show, Integer> commentScores;
+    private long matchesVersion;
+
+    /**
+     * Creates a predicate that runs {@code query} with {@code planner}.
+     * @param planner the {@code QueryPlanner} of the show list being filtered.
+     * @param query the {@code FindQuery} to match shows against.
+     */
+    public FindQueryPredicate(QueryPlanner planner, FindQuery query) {
+        requireAllNonNull(planner, query);
+        this.planner = planner;
+        this.query = query;
+    }
+
+    /**
+     * Tests whether {@code show} matches the query.
+     * @param show {@code Show}.
+     * @return returns true if the {@code Show} matches every clause of the query, else returns false.
+     */
+    @Override
+    public boolean test(Show show) {
+        refresh();
+        return matches.contains(show);
+    }
+
+    /**
+     * Returns a comparator that orders shows by decreasing frequency of the comment keyword terms in their comment,
+     * if the query has a comment clause.
+     */
+    public Optional<Comparator<Show>> getRanking() {
+        if (query.getClause(FindClause.Field.COMMENT).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Comparator.comparingInt(show -> {
+            refresh();
+            return -commentScores.getOrDefault(show, 0);
+        }));
+    }
+
+    /**
+     * Returns true if the indexes narrow down the shows that can match the query.
+     *
+     * @see QueryPlanner#isNarrowedByIndex(FindQuery)
+     */
+    public boolean isNarrowedByIndex() {
+        return planner.isNarrowedByIndex(query);
+    }
+
+    /**
+     * Returns a description of the plan that was last run for the query, and how long each stage took.
+     */
+    public String explain() {
+        refresh();
+        return plan.explain();
+    }
+
+    private void refresh() {
+        if (matches != null && matchesVersion == planner.getVersion()) {
+            return;
+        }
+        plan = planner.plan(query);
+        matches = plan.execute();
+        commentScores = query.getClause(FindClause.Field.COMMENT)
+                .map(clause -> planner.scoreComments(clause.getKeywords()))
+                .orElse(Collections.emptyMap());
+        matchesVersion = planner.getVersion();
+    }
+
+    /**
+     * Returns whether two objects are equal.
+     * @param other the second object to be compared with.
+     * @return true if both objects are equal, else return false.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindQueryPredicate // instanceof handles nulls
+                && planner == ((FindQueryPredicate) other).planner
+                && query.equals(((FindQueryPredicate) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(planner) + query.hashCode();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.trackermon.model.show.query;
+
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.trackermon.model.show.Show;
+
+/**
+ * Represents the stages that a {@code QueryPlanner} runs a {@code FindQuery} in, together with how many shows
+ * each stage matched and how long it took the last time the plan was run.
+ */
+public class QueryPlan {
+
+    /**
+     * Represents how a stage finds the shows that match its clause.
+     */
+    public enum AccessMethod {
+        /** Looks up the matching shows in the index for the field of the clause. */
+        INDEX,
+        /** Checks each show matched by the earlier stages against the clause. */
+        SCAN
+    }
+
+    /**
+     * Represents a single clause of a plan and how it is run.
+     */
+    public static class Stage {
+        private final FindClause clause;
+        private final AccessMethod accessMethod;
+        private final int estimatedMatches;
+        private int actualMatches = -1;
+        private long elapsedNanos;
+
+        /**
+         * Creates a {@code Stage} that runs {@code clause} with {@code accessMethod}.
+         */
+        public Stage(FindClause clause, AccessMethod accessMethod, int estimatedMatches) {
+            requireAllNonNull(clause, accessMethod);
+            this.clause = clause;
+            this.accessMethod = accessMethod;
+            this.estimatedMatches = estimatedMatches;
+        }
+
+        public FindClause getClause() {
+            return clause;
+        }
+
+        public AccessMethod getAccessMethod() {
+            return accessMethod;
+        }
+
+        public int getEstimatedMatches() {
+            return estimatedMatches;
+        }
+
+        @Override
+        public String toString() {
+            String result = accessMethod + " " + clause + " (estimated " + estimatedMatches + ")";
+            if (actualMatches < 0) {
+                return result + " not run";
+            }
+            return result + " -> " + actualMatches + " shows in " + elapsedNanos / 1000 + " us";
+        }
+    }
+
+    private final QueryPlanner planner;
+    private final FindQuery query;
+    private final List<Stage> stages;
+
+    /**
+     * Creates a {@code QueryPlan} that runs {@code query} with {@code planner} in the order of {@code stages}.
+     */
+    QueryPlan(QueryPlanner planner, FindQuery query, List<Stage> stages) {
+        this.planner = planner;
+        this.query = query;
+        this.stages = List.copyOf(stages);
+    }
+
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    /**
+     * Runs each stage in order, narrowing down the shows that match, and returns the shows that match every clause.
+     * The number of matches and time taken by each stage are recorded in the stage.
+     * The returned set compares shows by identity.
+     */
+    public Set<Show> execute() {
+        if (stages.isEmpty()) {
+            return planner.getAllShows();
+        }
+        Set<Show> matches = null;
+        for (Stage stage : stages) {
+            long start = System.nanoTime();
+            if (stage.accessMethod == AccessMethod.INDEX) {
+                Set<Show> stageMatches = planner.lookUp(stage.clause);
+                if (matches == null) {
+                    matches = QueryPlanner.newShowSet();
+                    matches.addAll(stageMatches);
+                } else {
+                    matches.retainAll(stageMatches);
+                }
+            } else {
+                Predicate<Show> scanPredicate = stage.clause.toScanPredicate();
+                if (matches == null) {
+                    matches = planner.getAllShows();
+                }
+                matches.removeIf(scanPredicate.negate());
+            }
+            stage.elapsedNanos = System.nanoTime() - start;
+            stage.actualMatches = matches.size();
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a description of this plan, with one line for each stage in the order they are run.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Plan for ").append(query).append(':');
+        for (int i = 0; i < stages.size(); i++) {
+            builder.append('\n').append(i + 1).append(". ").append(stages.get(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.trackermon.model.show.query;
+
+import static seedu.trackermon.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.trackermon.model.show.CommentIndex;
+import seedu.trackermon.model.show.NameTrigramIndex;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.Status;
+import seedu.trackermon.model.show.StatusRatingIndex;
+import seedu.trackermon.model.show.TagIndex;
+import seedu.trackermon.model.show.query.QueryPlan.AccessMethod;
+
+/**
+ * Plans and runs {@code FindQuery}s against a list of shows and its indexes.
+ * The clauses of a query are ordered by the estimated number of shows they match, so that the most selective
+ * clause runs first. Each clause then either looks up its matches in the index for its field, or checks the
+ * shows matched so far directly when there are few enough of them that this is estimated to be cheaper.
+ */
+public class QueryPlanner {
+
+    private final List<Show> shows;
+    private final NameTrigramIndex trigramIndex;
+    private final TagIndex tagIndex;
+    private final StatusRatingIndex statusRatingIndex;
+    private final CommentIndex commentIndex;
+
+    /**
+     * Creates a {@code QueryPlanner} for {@code shows}, which must be kept up to date by the given indexes.
+     */
+    public QueryPlanner(List<Show> shows, NameTrigramIndex trigramIndex, TagIndex tagIndex,
+            StatusRatingIndex statusRatingIndex, CommentIndex commentIndex) {
+        requireAllNonNull(shows, trigramIndex, tagIndex, statusRatingIndex, commentIndex);
+        this.shows = shows;
+        this.trigramIndex = trigramIndex;
+        this.tagIndex = tagIndex;
+        this.statusRatingIndex = statusRatingIndex;
+        this.commentIndex = commentIndex;
+    }
+
+    /**
+     * Returns a version that changes whenever the shows or any of the indexes change,
+     * which lets callers tell when the results of a query are stale.
+     */
+    public long getVersion() {
+        return trigramIndex.getVersion() + tagIndex.getVersion() + statusRatingIndex.getVersion()
+                + commentIndex.getVersion();
+    }
+
+    /**
+     * Returns the plan for running {@code query} against the current shows.
+     */
+    public QueryPlan plan(FindQuery query) {
+        List<FindClause> clauses = new ArrayList<>(query.getClauses());
+        Map<FindClause, Integer> estimates = new IdentityHashMap<>();
+        for (FindClause clause : clauses) {
+            estimates.put(clause, estimateMatches(clause));
+        }
+        clauses.sort(Comparator.comparingInt(estimates::get));
+
+        List<QueryPlan.Stage> stages = new ArrayList<>();
+        int candidateBound = shows.size();
+        for (FindClause clause : clauses) {
+            int estimate = estimates.get(clause);
+            boolean isScanCheaper = !stages.isEmpty()
+                    && (long) candidateBound * clause.getField().getScanCost() < estimate;
+            stages.add(new QueryPlan.Stage(clause, isScanCheaper ? AccessMethod.SCAN : AccessMethod.INDEX, estimate));
+            candidateBound = Math.min(candidateBound, estimate);
+        }
+        return new QueryPlan(this, query, stages);
+    }
+
+    /**
+     * Returns true if the index for any clause of {@code query} narrows down the shows that can match it.
+     * Otherwise, looking up the matches from the indexes visits every show anyway, and is slower than checking each
+     * show in order with {@link FindClause#toScanPredicate()}.
+     */
+    public boolean isNarrowedByIndex(FindQuery query) {
+        return query.getClauses().stream().anyMatch(clause -> estimateMatches(clause) < shows.size());
+    }
+
+    /**
+     * Returns the shows matching {@code clause}, looked up from the index for its field.
+     * The returned set compares shows by identity.
+     */
+    Set<Show> lookUp(FindClause clause) {
+        switch (clause.getField()) {
+        case NAME:
+            return trigramIndex.getShowsMatchingAll(clause.getKeywords());
+        case TAG:
+            return tagIndex.getShowsMatchingAll(clause.getKeywords());
+        case STATUS:
+            return toShows(statusRatingIndex.getPositionsMatching(toStatuses(clause), Collections.emptySet()));
+        case RATING:
+            return toShows(statusRatingIndex.getPositionsMatching(Collections.emptySet(), toRatings(clause)));
+        case COMMENT:
+            return commentIndex.getShowsMatchingAll(clause.getKeywords()).keySet();
+        default:
+            throw new AssertionError("Unknown field: " + clause.getField());
+        }
+    }
+
+    /**
+     * Returns every show, for a query without any clauses.
+     */
+    Set<Show> getAllShows() {
+        Set<Show> allShows = newShowSet();
+        allShows.addAll(shows);
+        return allShows;
+    }
+
+    /**
+     * Returns an estimate of the number of shows that match {@code clause}, which is never less than the actual
+     * number of matches.
+     */
+    int estimateMatches(FindClause clause) {
+        switch (clause.getField()) {
+        case NAME:
+            return trigramIndex.estimateMatches(clause.getKeywords());
+        case TAG:
+            return tagIndex.estimateMatches(clause.getKeywords());
+        case STATUS:
+            return statusRatingIndex.getPositionsMatching(toStatuses(clause), Collections.emptySet()).cardinality();
+        case RATING:
+            return statusRatingIndex.getPositionsMatching(Collections.emptySet(), toRatings(clause)).cardinality();
+        case COMMENT:
+            return commentIndex.estimateMatches(clause.getKeywords());
+        default:
+            throw new AssertionError("Unknown field: " + clause.getField());
+        }
+    }
+
+    /**
+     * Returns the shows whose comments contain every term in {@code keywords}, mapped to how many times
+     * the terms occur in their comment.
+     */
+    public Map<Show, Integer> scoreComments(List<String> keywords) {
+        return commentIndex.getShowsMatchingAll(keywords);
+    }
+
+    private Set<Show> toShows(BitSet positions) {
+        Set<Show> matches = newShowSet();
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            matches.add(shows.get(i));
+        }
+        return matches;
+    }
+
+    private static Set<Status> toStatuses(FindClause clause) {
+        Set<Status> statuses = EnumSet.noneOf(Status.class);
+        clause.getKeywords().forEach(keyword -> statuses.add(Status.getStatus(keyword)));
+        return statuses;
+    }
+
+    private static Set<Rating> toRatings(FindClause clause) {
+        Set<Rating> ratings = new HashSet<>();
+        clause.getKeywords().forEach(keyword -> ratings.add(new Rating(keyword)));
+        return ratings;
+    }
+
+    static Set<Show> newShowSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,6 +3,8 @@ package seedu.trackermon.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.trackermon.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Tag in the show list.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -22,7 +24,7 @@ public class Tag {
     public Tag(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName.toLowerCase();
+        this.tagName = tagName.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -51,7 +53,7 @@ public class Tag {
      * Format state as text for viewing.
      */
     public String toString() {
-        return tagName.substring(0, 1).toUpperCase() + tagName.substring(1);
+        return tagName.substring(0, 1).toUpperCase(Locale.ROOT) + tagName.substring(1);
     }
 
 }
@@ -0,0 +1,121 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.trackermon.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.model.ReadOnlyShowList;
+
+/**
+ * A {@code ShowListStorage} that defers saves, so that a long run of commands writes the show list a few times
+ * instead of once per command. Only the latest show list saved to each file is kept, and it is written on every
+ * {@code saveInterval}th save, or when the storage is flushed.
+ * Show lists are kept rather than copied, so a show list is written as it is when it is written, which is the
+ * latest state of a show list that is saved after every change to it.
+ */
+public class BatchedShowListStorage implements ShowListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BatchedShowListStorage.class);
+
+    private final ShowListStorage showListStorage;
+    private final int saveInterval;
+    private final Map<Path, ReadOnlyShowList> pendingShowLists = new LinkedHashMap<>();
+    private int deferredSaveCount;
+
+    /**
+     * Creates a {@code BatchedShowListStorage} that writes show lists with {@code showListStorage} on every
+     * {@code saveInterval}th save, or only when flushed if {@code saveInterval} is 0.
+     */
+    public BatchedShowListStorage(ShowListStorage showListStorage, int saveInterval) {
+        requireNonNull(showListStorage);
+        checkArgument(saveInterval >= 0, "Save interval cannot be negative");
+        this.showListStorage = showListStorage;
+        this.saveInterval = saveInterval;
+    }
+
+    @Override
+    public Path getShowListFilePath() {
+        return showListStorage.getShowListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyShowList> readShowList() throws DataConversionException, IOException {
+        return readShowList(getShowListFilePath());
+    }
+
+    /**
+     * Reads the show list at {@code filePath}, after any deferred saves have been written.
+     */
+    @Override
+    public Optional<ReadOnlyShowList> readShowList(Path filePath) throws DataConversionException, IOException {
+        flushShowList();
+        return showListStorage.readShowList(filePath);
+    }
+
+    /**
+     * Reads the show list, or its newest previous version that can be read, after any deferred saves have been
+     * written.
+     */
+    @Override
+    public Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException, IOException {
+        flushShowList();
+        return showListStorage.readLatestValidShowList();
+    }
+
+    @Override
+    public void saveShowList(ReadOnlyShowList showList) throws IOException {
+        saveShowList(showList, getShowListFilePath());
+    }
+
+    /**
+     * Keeps {@code showList} to be written to {@code filePath} later, in place of any show list still waiting to be
+     * written to the same file, and writes every waiting show list if this is the {@code saveInterval}th save since
+     * they were last written.
+     */
+    @Override
+    public void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException {
+        requireNonNull(showList);
+        requireNonNull(filePath);
+        pendingShowLists.remove(filePath);
+        pendingShowLists.put(filePath, showList);
+        deferredSaveCount++;
+        if (saveInterval > 0 && deferredSaveCount >= saveInterval) {
+            writePendingShowLists();
+        }
+    }
+
+    /**
+     * Writes every show list waiting to be written, and then flushes the underlying storage.
+     */
+    @Override
+    public void flushShowList() throws IOException {
+        writePendingShowLists();
+        showListStorage.flushShowList();
+    }
+
+    /**
+     * Writes the waiting show lists, oldest first. A show list that fails to be written is kept waiting, so that it
+     * is written again by the next save or flush.
+     */
+    private void writePendingShowLists() throws IOException {
+        Iterator<Map.Entry<Path, ReadOnlyShowList>> iterator = pendingShowLists.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, ReadOnlyShowList> next = iterator.next();
+            showListStorage.saveShowList(next.getValue(), next.getKey());
+            iterator.remove();
+        }
+        if (deferredSaveCount > 0) {
+            logger.fine("Wrote the show list once for " + deferredSaveCount + " saves");
+        }
+        deferredSaveCount = 0;
+    }
+}
@@ -0,0 +1,280 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Comment;
+import seedu.trackermon.model.show.Name;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.Status;
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Reads show lists in the binary format written by {@link BinaryShowListWriter}.
+ * Each distinct tag is only validated and created once, and then shared by every show that has it.
+ * Show lists can be read from a stream, or from a buffer such as a memory-mapped data file, in which case
+ * comments are decoded from the buffer only when they are needed.
+ */
+class BinaryShowListReader {
+
+    public static final String MESSAGE_INVALID_DATA = "Binary data file is invalid: %s";
+
+    /** Upper bound on the length of any string, so that a corrupt length does not allocate a huge array. */
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryShowListReader() {}
+
+    /**
+     * Returns true if {@code inputStream} starts with the binary format's magic bytes, without consuming them.
+     *
+     * @param inputStream must support {@link InputStream#mark(int)}.
+     */
+    public static boolean isBinaryShowList(InputStream inputStream) throws IOException {
+        assert inputStream.markSupported();
+        inputStream.mark(BinaryShowListWriter.MAGIC.length);
+        byte[] start = inputStream.readNBytes(BinaryShowListWriter.MAGIC.length);
+        inputStream.reset();
+        return Arrays.equals(start, BinaryShowListWriter.MAGIC);
+    }
+
+    /**
+     * Returns true if {@code buffer} starts with the binary format's magic bytes.
+     */
+    public static boolean isBinaryShowList(ByteBuffer buffer) {
+        if (buffer.limit() < BinaryShowListWriter.MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < BinaryShowListWriter.MAGIC.length; i++) {
+            if (buffer.get(i) != BinaryShowListWriter.MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the shows in {@code inputStream} into a new {@code ShowList}. {@code inputStream} is left open.
+     *
+     * @throws IOException if the stream could not be read or ends early.
+     * @throws IllegalValueException if the data is not in the binary format or violates any data constraints.
+     */
+    public static ShowList readShowList(InputStream inputStream) throws IOException, IllegalValueException {
+        requireNonNull(inputStream);
+        return readShowList(new StreamSource(new DataInputStream(new BufferedInputStream(inputStream, BUFFER_SIZE))));
+    }
+
+    /**
+     * Reads the shows in {@code buffer}, from its start to its limit, into a new {@code ShowList}.
+     * Comments are checked against the data constraints, but are not copied out of {@code buffer}. Instead, each
+     * {@code Comment} keeps a reference to {@code buffer} and decodes its text whenever the text is needed,
+     * so {@code buffer} must not be modified afterwards.
+     *
+     * @throws IOException if the data ends early.
+     * @throws IllegalValueException if the data is not in the binary format or violates any data constraints.
+     */
+    public static ShowList readShowList(ByteBuffer buffer) throws IOException, IllegalValueException {
+        requireNonNull(buffer);
+        return readShowList(new BufferSource(buffer.asReadOnlyBuffer()));
+    }
+
+    private static ShowList readShowList(ByteSource input) throws IOException, IllegalValueException {
+        byte[] magic = input.readBytes(BinaryShowListWriter.MAGIC.length);
+        if (!Arrays.equals(magic, BinaryShowListWriter.MAGIC)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATA, "not a binary data file"));
+        }
+        int version = input.readUnsignedByte();
+        if (version != BinaryShowListWriter.VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATA, "unsupported version " + version));
+        }
+
+        try {
+            Tag[] tags = new Tag[readVarint(input)];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = new Tag(readString(input));
+            }
+
+            ShowList showList = new ShowList();
+            for (int showCount = readVarint(input); showCount > 0; showCount--) {
+                Show show = readShow(input, tags);
+                if (showList.hasShow(show)) {
+                    throw new IllegalValueException(JsonSerializableShowList.MESSAGE_DUPLICATE_SHOW);
+                }
+                showList.addShow(show);
+            }
+            return showList;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            // Thrown by the model's constructors for invalid values, or for a tag index outside the tag table
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATA, e.getMessage()));
+        }
+    }
+
+    private static Show readShow(ByteSource input, Tag[] tags) throws IOException, IllegalValueException {
+        Name name = new Name(readString(input));
+        int statusAndRating = input.readUnsignedByte();
+        int statusOrdinal = statusAndRating >>> BinaryShowListWriter.RATING_BITS;
+        if (statusOrdinal >= Status.values().length) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        Status status = Status.values()[statusOrdinal];
+        Rating rating = new Rating(statusAndRating & ((1 << BinaryShowListWriter.RATING_BITS) - 1));
+
+        Set<Tag> showTags = new HashSet<>();
+        for (int tagCount = readVarint(input); tagCount > 0; tagCount--) {
+            showTags.add(tags[readVarint(input)]);
+        }
+        Comment comment = input.readComment(readLength(input));
+        return new Show(name, status, showTags, comment, rating);
+    }
+
+    private static String readString(ByteSource input) throws IOException, IllegalValueException {
+        return new String(input.readBytes(readLength(input)), UTF_8);
+    }
+
+    private static int readLength(ByteSource input) throws IOException, IllegalValueException {
+        int length = readVarint(input);
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATA, "string of " + length + " bytes"));
+        }
+        return length;
+    }
+
+    /**
+     * Reads a varint written by {@link BinaryShowListWriter}.
+     */
+    private static int readVarint(ByteSource input) throws IOException, IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int next = input.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_DATA, "count out of range"));
+    }
+
+    /**
+     * Represents the bytes of a binary data file, read in order.
+     */
+    private interface ByteSource {
+
+        int readUnsignedByte() throws IOException;
+
+        byte[] readBytes(int length) throws IOException;
+
+        /**
+         * Reads a comment of {@code length} bytes.
+         */
+        Comment readComment(int length) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * A {@code ByteSource} that reads from a stream, and copies every comment onto the heap.
+     */
+    private static class StreamSource implements ByteSource {
+
+        private final DataInputStream input;
+
+        StreamSource(DataInputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public int readUnsignedByte() throws IOException {
+            return input.readUnsignedByte();
+        }
+
+        @Override
+        public byte[] readBytes(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return bytes;
+        }
+
+        @Override
+        public Comment readComment(int length) throws IOException {
+            return new Comment(new String(readBytes(length), UTF_8));
+        }
+    }
+
+    /**
+     * A {@code ByteSource} that reads from a buffer, and leaves every comment in the buffer.
+     */
+    private static class BufferSource implements ByteSource {
+
+        private final ByteBuffer buffer;
+
+        BufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int readUnsignedByte() throws IOException {
+            requireRemaining(1);
+            return Byte.toUnsignedInt(buffer.get());
+        }
+
+        @Override
+        public byte[] readBytes(int length) throws IOException {
+            requireRemaining(length);
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        /**
+         * Checks that the comment is made up of at most {@link Comment#MAX_LENGTH} ASCII bytes, which is exactly
+         * what {@link Comment#isValidComment(String)} accepts, and skips over it.
+         */
+        @Override
+        public Comment readComment(int length) throws IOException, IllegalValueException {
+            requireRemaining(length);
+            if (length > Comment.MAX_LENGTH) {
+                throw new IllegalValueException(Comment.MESSAGE_CONSTRAINTS);
+            }
+            int offset = buffer.position();
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer.get(i) < 0) {
+                    throw new IllegalValueException(Comment.MESSAGE_CONSTRAINTS);
+                }
+            }
+            buffer.position(offset + length);
+            return Comment.fromLoader(() -> decodeAscii(buffer, offset, length), length);
+        }
+
+        private void requireRemaining(int length) throws EOFException {
+            if (buffer.remaining() < length) {
+                throw new EOFException();
+            }
+        }
+
+        /**
+         * Decodes the {@code length} ASCII bytes at {@code offset} in {@code buffer}, without moving its position.
+         */
+        private static String decodeAscii(ByteBuffer buffer, int offset, int length) {
+            byte[] bytes = new byte[length];
+            ByteBuffer comment = buffer.duplicate();
+            comment.position(offset);
+            comment.get(bytes);
+            return new String(bytes, US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.model.ReadOnlyShowList;
+
+/**
+ * A class to access Trackermon data stored in the compact binary format described in {@link BinaryShowListWriter}.
+ * Json data files can be read as well, so that a json data file, such as an imported one, is converted to the
+ * binary format the next time it is saved.
+ * <p>
+ * In mapped mode, the data file is memory-mapped when it is read, and each {@code Comment} is decoded from the
+ * mapped file whenever its text is needed instead of being kept on the heap, so heap usage grows with the number
+ * of shows rather than with the length of their comments. The data file itself is mapped, without being copied.
+ * A mapping lasts as long as any comment decoded from it, so the mapped file must never be written over in place:
+ * saves write a new file and rename it over the data file, which leaves the mapped file unchanged until it is no
+ * longer mapped, and only then frees its disk space. Other files, such as imported ones, may be written over by
+ * other programs, so they are read from a stream instead. A file cannot be replaced while it is mapped on some
+ * platforms, such as Windows, so the data file is only mapped on platforms with POSIX file systems.
+ */
+public class BinaryShowListStorage implements ShowListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryShowListStorage.class);
+    /** Whether a mapped file can be replaced by a rename, which POSIX file systems allow. */
+    private static final boolean CAN_REPLACE_MAPPED_FILE =
+            FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    private final Path filePath;
+    private final DataFileGenerations generations;
+    private final boolean isMapped;
+
+    public BinaryShowListStorage(Path filePath) {
+        this(filePath, 0, false);
+    }
+
+    /**
+     * Creates a {@code BinaryShowListStorage} for the file at {@code filePath}, which keeps {@code keptGenerations}
+     * previous versions of itself, and memory-maps it when reading if {@code isMapped} is true and the platform
+     * allows it.
+     */
+    public BinaryShowListStorage(Path filePath, int keptGenerations, boolean isMapped) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.generations = new DataFileGenerations(keptGenerations);
+        this.isMapped = isMapped && CAN_REPLACE_MAPPED_FILE;
+        if (isMapped && !CAN_REPLACE_MAPPED_FILE) {
+            logger.info("Binary file " + filePath + " is read instead of mapped, since a mapped file could not be"
+                    + " replaced by a save");
+        }
+    }
+
+    @Override
+    public Path getShowListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyShowList> readShowList() throws DataConversionException {
+        return readShowList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readShowList()}.
+     * The file is read as json instead if it does not start with the binary format's magic bytes.
+     * In mapped mode, the binary data file of this storage is memory-mapped instead of being read from a stream.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyShowList> readShowList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (isMapped && filePath.equals(this.filePath)) {
+                Optional<ReadOnlyShowList> showList = readMappedShowList(filePath);
+                if (showList.isPresent()) {
+                    return showList;
+                }
+            }
+            return Optional.of(readStreamedShowList(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, in either format, from a stream.
+     */
+    private ReadOnlyShowList readStreamedShowList(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath))) {
+            if (BinaryShowListReader.isBinaryShowList(inputStream)) {
+                return BinaryShowListReader.readShowList(inputStream);
+            }
+            logger.info("Reading " + filePath + " as json, since it is not a binary data file");
+            return JsonShowListReader.readShowList(inputStream);
+        }
+    }
+
+    /**
+     * Reads the binary data file at {@code filePath} from a memory mapping of it.
+     * Returns an empty {@code Optional} if the file is not a binary data file, or is too large to be mapped,
+     * so that it can be read from a stream instead.
+     */
+    private Optional<ReadOnlyShowList> readMappedShowList(Path filePath) throws IOException, IllegalValueException {
+        if (Files.size(filePath) > Integer.MAX_VALUE) {
+            logger.info("Binary file " + filePath + " is too large to be mapped, reading it instead");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // The mapping remains valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!BinaryShowListReader.isBinaryShowList(buffer)) {
+                return Optional.empty();
+            }
+            return Optional.of(BinaryShowListReader.readShowList(buffer));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException {
+        return generations.read(filePath, this::readShowList);
+    }
+
+    @Override
+    public void saveShowList(ReadOnlyShowList showList) throws IOException {
+        saveShowList(showList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveShowList(ReadOnlyShowList)}.
+     * The file is replaced only once all of the shows have been written, so it is never left partially written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException {
+        requireNonNull(showList);
+        requireNonNull(filePath);
+
+        generations.write(filePath, outputStream -> BinaryShowListWriter.writeShows(showList.getShows(), outputStream));
+    }
+
+    /**
+     * Does nothing, since show lists are written before {@link #saveShowList(ReadOnlyShowList)} returns.
+     */
+    @Override
+    public void flushShowList() {}
+
+}
@@ -0,0 +1,94 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.tag.Tag;
+
+/**
+ * Writes show lists in Trackermon's compact binary format, which is laid out as follows:
+ * <pre>
+ * file   := magic version tagCount tag* showCount show*
+ * tag    := string
+ * show   := string(name) statusAndRating tagCount tagIndex* string(comment)
+ * string := byteCount bytes (UTF-8)
+ * </pre>
+ * {@code magic} is the four bytes {@code TRKM} and {@code version} is one byte. {@code statusAndRating} is one
+ * byte holding the ordinal of the status above the three bits of the rating. Every count and tag index is an
+ * unsigned varint, which takes one byte for values below 128. Each distinct tag is stored once in the tag table,
+ * and shows refer to tags by their index in the table. The comment is last, so that it can be skipped over.
+ */
+class BinaryShowListWriter {
+
+    static final byte[] MAGIC = {'T', 'R', 'K', 'M'};
+    static final int VERSION = 1;
+    static final int RATING_BITS = 3;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryShowListWriter() {}
+
+    /**
+     * Writes {@code shows} to {@code outputStream} in order. {@code outputStream} is left open.
+     *
+     * @throws IOException if the stream could not be written to.
+     */
+    public static void writeShows(List<Show> shows, OutputStream outputStream) throws IOException {
+        requireNonNull(shows);
+        requireNonNull(outputStream);
+
+        Map<Tag, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Show show : shows) {
+            for (Tag tag : show.getTags()) {
+                tagIndexes.putIfAbsent(tag, tagIndexes.size());
+            }
+        }
+
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+        output.write(MAGIC);
+        output.writeByte(VERSION);
+        writeVarint(output, tagIndexes.size());
+        for (Tag tag : tagIndexes.keySet()) {
+            writeString(output, tag.tagName);
+        }
+        writeVarint(output, shows.size());
+        for (Show show : shows) {
+            writeString(output, show.getName().name);
+            output.writeByte(show.getStatus().ordinal() << RATING_BITS | show.getRating().rating);
+            writeVarint(output, show.getTags().size());
+            for (Tag tag : show.getTags()) {
+                writeVarint(output, tagIndexes.get(tag));
+            }
+            writeString(output, show.getComment().getUncachedText());
+        }
+        output.flush();
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Writes {@code value} seven bits at a time, lowest bits first, with the high bit of each byte set if more
+     * bytes follow.
+     */
+    private static void writeVarint(DataOutputStream output, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            output.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+}
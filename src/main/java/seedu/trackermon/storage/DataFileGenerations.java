@@ -0,0 +1,201 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.commons.util.FileUtil;
+
+/**
+ * Writes data files so that they are never left partially written, and keeps a number of their previous versions.
+ * Each file is first written to a temporary file next to it, which is synced to disk and then atomically moved over
+ * the file, so the file exists at every point of a write. Before that, the previous versions are moved back to
+ * numbered generations next to the file, such as {@code trackermon.json.1} for the latest previous version, and the
+ * oldest one is dropped. The file becomes its first generation through a hard link, or a copy where hard links are
+ * not supported, rather than by being moved.
+ * Reading falls back to the newest generation that can be read, if the file itself is missing or cannot be read.
+ */
+class DataFileGenerations {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileGenerations.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final int keptGenerations;
+
+    /**
+     * Creates a {@code DataFileGenerations} that keeps {@code keptGenerations} previous versions of each file.
+     * A negative number of generations is treated as 0.
+     */
+    public DataFileGenerations(int keptGenerations) {
+        this.keptGenerations = Math.max(0, keptGenerations);
+    }
+
+    /**
+     * Returns the path of the given {@code generation} of the file at {@code filePath}, counting from 1.
+     */
+    public static Path getGenerationPath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with the content written by {@code contentWriter}.
+     * The file is either left unchanged or completely replaced, even if writing is interrupted.
+     *
+     * @throws IOException if the content could not be written, in which case the file is unchanged.
+     */
+    public void write(Path filePath, ContentWriter contentWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(contentWriter);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream outputStream = Channels.newOutputStream(channel);
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+            rotateGenerations(filePath);
+            move(temporaryPath, filePath);
+            syncDirectory(filePath.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath} with {@code contentReader}, or the newest of its generations that can be
+     * read if the file is missing or cannot be read.
+     *
+     * @return the content read, or an empty {@code Optional} if neither the file nor any generation of it exists.
+     * @throws DataConversionException if the file and its generations exist but none of them can be read.
+     */
+    public <T> Optional<T> read(Path filePath, ContentReader<T> contentReader) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(contentReader);
+
+        DataConversionException firstException = null;
+        for (Path path : getExistingVersions(filePath)) {
+            try {
+                Optional<T> content = contentReader.readFrom(path);
+                if (content.isPresent()) {
+                    if (!path.equals(filePath)) {
+                        logger.warning("Could not read " + filePath + ", so its previous version " + path
+                                + " was read instead");
+                    }
+                    return content;
+                }
+            } catch (DataConversionException e) {
+                firstException = firstException == null ? e : firstException;
+            }
+        }
+
+        if (firstException != null) {
+            throw firstException;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the file at {@code filePath} followed by its generations, newest first, leaving out those that do not
+     * exist. Generations beyond the first missing one are not included.
+     */
+    private static List<Path> getExistingVersions(Path filePath) {
+        List<Path> versions = new ArrayList<>();
+        if (Files.exists(filePath)) {
+            versions.add(filePath);
+        }
+        for (int generation = 1; Files.exists(getGenerationPath(filePath, generation)); generation++) {
+            versions.add(getGenerationPath(filePath, generation));
+        }
+        return versions;
+    }
+
+    /**
+     * Keeps the file at {@code filePath} as its first generation, after moving each existing generation one further
+     * back and dropping the oldest one. The file itself is left in place until the new file replaces it.
+     */
+    private void rotateGenerations(Path filePath) throws IOException {
+        if (keptGenerations == 0 || !Files.exists(filePath)) {
+            return;
+        }
+        for (int generation = keptGenerations - 1; generation >= 1; generation--) {
+            Path generationPath = getGenerationPath(filePath, generation);
+            if (Files.exists(generationPath)) {
+                Files.move(generationPath, getGenerationPath(filePath, generation + 1),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path firstGenerationPath = getGenerationPath(filePath, 1);
+        Files.deleteIfExists(firstGenerationPath);
+        try {
+            // The new file is moved over the file rather than written into it, so the link keeps the old content
+            Files.createLink(firstGenerationPath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.fine("Could not link " + firstGenerationPath + " to " + filePath + ", so it is copied instead");
+            Files.copy(filePath, firstGenerationPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.fine("Atomic move is not supported for " + target + ", so it is replaced non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs {@code directory} to disk, so that a file moved into it is still there after a crash.
+     * Some platforms, such as Windows, cannot open a directory, and sync it without being asked to.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not sync directory " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Represents a function that writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code outputStream}, without closing it.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Represents a function that reads the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        /**
+         * Reads the content of the file at {@code filePath}, or returns an empty {@code Optional} if it does not exist.
+         *
+         * @throws DataConversionException if the file cannot be read or is not in the correct format.
+         */
+        Optional<T> readFrom(Path filePath) throws DataConversionException;
+    }
+}
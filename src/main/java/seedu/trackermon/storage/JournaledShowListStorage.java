@@ -0,0 +1,344 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.commons.util.FileUtil;
+import seedu.trackermon.commons.util.JsonUtil;
+import seedu.trackermon.model.ReadOnlyShowList;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.ShowListChange;
+
+/**
+ * A class to access Trackermon data stored as a json snapshot file, together with a journal of the changes
+ * made since the snapshot was written.
+ * Saving follows the changes recorded by the show list since it was last saved, and appends only the shows that
+ * were added, edited or deleted to the journal, as one line each, so its cost depends on the changes rather than on
+ * the size of the show list. If the changes cannot be described that way, such as after a sort, or once the journal
+ * grows past the compaction threshold, the whole show list is written to the snapshot instead and a new journal is
+ * started. Each append is synced to disk before the save returns, like a snapshot.
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by an older
+ * snapshot is ignored.
+ */
+public class JournaledShowListStorage implements ShowListStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledShowListStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final DataFileGenerations generations;
+    private final long compactionThreshold;
+
+    private ReadOnlyShowList savedShowList;
+    private ShowListChange savedChange;
+    private long journalSize;
+    private boolean hasJournalEntries;
+
+    /**
+     * Creates a {@code JournaledShowListStorage} for the snapshot at {@code filePath},
+     * using the default compaction threshold and without pretty printing.
+     */
+    public JournaledShowListStorage(Path filePath) {
+        this(filePath, false, 0, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledShowListStorage} for the snapshot at {@code filePath}, which is rewritten
+     * once its journal is at least {@code compactionThreshold} bytes long, and is indented over multiple lines
+     * if {@code isPrettyPrinted} is true. {@code keptGenerations} previous versions of the snapshot are kept.
+     */
+    public JournaledShowListStorage(Path filePath, boolean isPrettyPrinted, int keptGenerations,
+            long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.generations = new DataFileGenerations(keptGenerations);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getShowListFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyShowList> readShowList() throws DataConversionException {
+        return readShowList(filePath);
+    }
+
+    /**
+     * Returns the snapshot at {@code filePath} with its journal replayed over it.
+     * If {@code filePath} is the file of this storage, later saves are journaled against the returned show list.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyShowList> readShowList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return readShowList(filePath, getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the snapshot at {@code filePath} with the journal at {@code journalPath} replayed over it, if the
+     * journal was started over that snapshot.
+     */
+    private Optional<ReadOnlyShowList> readShowList(Path filePath, Path journalPath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            if (filePath.equals(this.filePath)) {
+                // There is no snapshot for the journal to apply to, so the next save must write one
+                journalSize = 0;
+            }
+            return Optional.empty();
+        }
+
+        ShowList showList = new ShowList();
+        int replayedEntryCount;
+        try {
+            List<Show> shows;
+            long snapshotChecksum;
+            try (CheckedInputStream snapshot = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+                shows = JsonShowListReader.readShows(snapshot);
+                // The checksum covers the whole file, including anything after the show list
+                snapshot.transferTo(OutputStream.nullOutputStream());
+                snapshotChecksum = snapshot.getChecksum().getValue();
+            }
+            replayedEntryCount = replayJournal(journalPath, snapshotChecksum, shows);
+            for (Show show : shows) {
+                if (showList.hasShow(show)) {
+                    throw new IllegalValueException(JsonSerializableShowList.MESSAGE_DUPLICATE_SHOW);
+                }
+                showList.addShow(show);
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Could not read " + filePath + ": " + e.getMessage());
+            if (filePath.equals(this.filePath)) {
+                // The snapshot no longer matches the last save, so the next save must replace it
+                journalSize = 0;
+            }
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedShowList = showList;
+            savedChange = showList.getLastChange();
+            journalSize = replayedEntryCount < 0 ? 0 : getJournalSize();
+            hasJournalEntries = replayedEntryCount > 0;
+        }
+        return Optional.of(showList);
+    }
+
+    /**
+     * Reads the snapshot with its journal replayed over it, or the newest previous version of the snapshot that can
+     * be read if the snapshot is missing or cannot be read.
+     * The journal is also replayed over a previous version that it was started over. This is the case if the
+     * snapshot was lost or damaged after the journal was last started, since each version is kept as it was.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException {
+        Path journalPath = getJournalFilePath(filePath);
+        return generations.read(filePath, path -> readShowList(path, journalPath));
+    }
+
+    @Override
+    public void saveShowList(ReadOnlyShowList showList) throws IOException {
+        saveShowList(showList, filePath);
+    }
+
+    /**
+     * Saves {@code showList} to {@code filePath}, by appending the changes since the last save to the journal
+     * when {@code filePath} is the file of this storage, or by writing a snapshot otherwise.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException {
+        requireNonNull(showList);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, showList.getShows());
+            return;
+        }
+
+        ShowListChange lastChange = showList.getLastChange();
+        Optional<List<JsonAdaptedJournalEntry>> entries = getChanges(savedChange, lastChange);
+        if (entries.isEmpty() || journalSize == 0 || journalSize >= compactionThreshold) {
+            compact(showList.getShows());
+        } else if (!entries.get().isEmpty()) {
+            appendToJournal(entries.get());
+        }
+        savedShowList = showList;
+        savedChange = lastChange;
+    }
+
+    /**
+     * Writes the show list that was last saved to the snapshot, if any changes to it are only in the journal,
+     * so that the snapshot alone holds all of the data.
+     * This is needed when the data file is copied, as by an export, and when the app exits, since the journal is
+     * only read while journaling is turned on in the user prefs. Changes that are already in the snapshot are not
+     * written again.
+     */
+    @Override
+    public synchronized void flushShowList() throws IOException {
+        if (savedShowList != null && (hasJournalEntries || journalSize == 0)) {
+            ShowListChange lastChange = savedShowList.getLastChange();
+            compact(savedShowList.getShows());
+            savedChange = lastChange;
+        }
+    }
+
+    /**
+     * Returns the journal entries for the changes made after {@code from}, up to and including {@code to}, or an
+     * empty {@code Optional} if {@code to} does not follow {@code from}, or the changes cannot be journaled.
+     * Only the changes in between are looked at, rather than the shows of the show list.
+     */
+    static Optional<List<JsonAdaptedJournalEntry>> getChanges(ShowListChange from, ShowListChange to) {
+        if (from == null || to == null) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        ShowListChange change = from;
+        while (change != to) {
+            change = change.getNext();
+            if (change == null) {
+                return Optional.empty();
+            }
+            switch (change.getType()) {
+            case ADD:
+                entries.add(JsonAdaptedJournalEntry.add(change.getShow()));
+                break;
+            case SET:
+                entries.add(JsonAdaptedJournalEntry.set(change.getIndex(), change.getShow()));
+                break;
+            case REMOVE:
+                entries.add(JsonAdaptedJournalEntry.delete(change.getIndex()));
+                break;
+            case CLEAR:
+                entries.add(JsonAdaptedJournalEntry.clear());
+                break;
+            default:
+                return Optional.empty();
+            }
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journalPath} to {@code shows}, if the journal was started
+     * over the snapshot with the given {@code checksum}.
+     * A last line without a line break was not completely written, and is left out.
+     *
+     * @return the number of entries applied, or -1 if no further entries can be appended to the journal.
+     */
+    private static int replayJournal(Path journalPath, long checksum, List<Show> shows)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+        String journal = FileUtil.readFromFile(journalPath);
+        String[] lines = journal.split("\n", -1);
+        int completeLineCount = lines.length - 1;
+        if (completeLineCount == 0
+                || !JsonUtil.fromJsonString(lines[0], JsonAdaptedJournalEntry.class).isBaseOf(checksum)) {
+            logger.info("Ignoring journal " + journalPath + " that does not match its snapshot");
+            return -1;
+        }
+        for (int i = 1; i < completeLineCount; i++) {
+            JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class).applyTo(shows);
+        }
+        logger.fine("Replayed " + (completeLineCount - 1) + " journal entries from " + journalPath);
+        return lines[completeLineCount].isEmpty() ? completeLineCount - 1 : -1;
+    }
+
+    /**
+     * Writes {@code shows} to the snapshot and starts a new journal over it.
+     */
+    private void compact(List<Show> shows) throws IOException {
+        long snapshotChecksum = writeSnapshot(filePath, shows);
+        String base = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.base(snapshotChecksum)) + "\n";
+        writeToJournal(base.getBytes(UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+        journalSize = base.length();
+        hasJournalEntries = false;
+        logger.fine("Compacted " + shows.size() + " shows into " + filePath);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(UTF_8);
+        try {
+            writeToJournal(bytes, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may now end in a partial entry, so the next save starts a new one
+            journalSize = 0;
+            throw e;
+        }
+        journalSize += bytes.length;
+        hasJournalEntries = true;
+    }
+
+    /**
+     * Writes {@code shows} to the snapshot at {@code filePath}, and returns the checksum of the snapshot.
+     */
+    private long writeSnapshot(Path filePath, List<Show> shows) throws IOException {
+        CRC32 checksum = new CRC32();
+        generations.write(filePath, outputStream ->
+                JsonShowListWriter.writeShows(shows, new CheckedOutputStream(outputStream, checksum), isPrettyPrinted));
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes {@code bytes} to the journal, which is opened with {@code option}, and syncs it to disk.
+     */
+    private void writeToJournal(byte[] bytes, StandardOpenOption option) throws IOException {
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, option)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private long getJournalSize() {
+        try {
+            return Files.size(getJournalFilePath(filePath));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
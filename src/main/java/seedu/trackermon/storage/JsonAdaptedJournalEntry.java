@@ -0,0 +1,127 @@
+package seedu.trackermon.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.model.show.Show;
+
+/**
+ * Jackson-friendly version of a single change to a show list, as a line of a journal.
+ * The first entry of a journal is a base entry, which holds the checksum of the snapshot that the rest of the
+ * journal applies to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_BASE = "base";
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_CLEAR = "clear";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    private final String operation;
+    private final Integer index;
+    private final JsonAdaptedShow show;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") Integer index,
+            @JsonProperty("show") JsonAdaptedShow show, @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.index = index;
+        this.show = show;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns an entry that starts a journal over the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalEntry base(long checksum) {
+        return new JsonAdaptedJournalEntry(OPERATION_BASE, null, null, checksum);
+    }
+
+    /**
+     * Returns an entry that appends {@code show} to the end of the show list.
+     */
+    public static JsonAdaptedJournalEntry add(Show show) {
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, null, new JsonAdaptedShow(show), null);
+    }
+
+    /**
+     * Returns an entry that replaces the show at {@code index} of the show list with {@code show}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Show show) {
+        return new JsonAdaptedJournalEntry(OPERATION_SET, index, new JsonAdaptedShow(show), null);
+    }
+
+    /**
+     * Returns an entry that removes the show at {@code index} of the show list.
+     */
+    public static JsonAdaptedJournalEntry delete(int index) {
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, index, null, null);
+    }
+
+    /**
+     * Returns an entry that removes every show from the show list.
+     */
+    public static JsonAdaptedJournalEntry clear() {
+        return new JsonAdaptedJournalEntry(OPERATION_CLEAR, null, null, null);
+    }
+
+    /**
+     * Returns true if this entry starts a journal over the snapshot with the given {@code checksum}.
+     */
+    public boolean isBaseOf(long checksum) {
+        return OPERATION_BASE.equals(operation) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies this entry to {@code shows}.
+     *
+     * @throws IllegalValueException if the entry is not a valid change to {@code shows}.
+     */
+    public void applyTo(List<Show> shows) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing operation"));
+        }
+        switch (operation) {
+        case OPERATION_ADD:
+            shows.add(toModelShow());
+            break;
+        case OPERATION_SET:
+            shows.set(toValidIndex(shows), toModelShow());
+            break;
+        case OPERATION_DELETE:
+            shows.remove(toValidIndex(shows));
+            break;
+        case OPERATION_CLEAR:
+            shows.clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, operation));
+        }
+    }
+
+    private int toValidIndex(List<Show> shows) throws IllegalValueException {
+        if (index == null || index < 0 || index >= shows.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, operation + " at " + index));
+        }
+        return index;
+    }
+
+    private Show toModelShow() throws IllegalValueException {
+        if (show == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, operation + " without show"));
+        }
+        return show.toModelType();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.trackermon.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -55,7 +56,7 @@ class JsonAdaptedShow {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        comment = source.getComment().comment;
+        comment = source.getComment().getUncachedText();
     }
 
     /**
@@ -84,7 +85,7 @@ class JsonAdaptedShow {
         if (!Status.isValidStatus(status)) {
             throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
         }
-        final Status modelStatus = Status.getStatus(status.toUpperCase());
+        final Status modelStatus = Status.getStatus(status.toUpperCase(Locale.ROOT));
 
         final Comment modelComment = new Comment(comment);
 
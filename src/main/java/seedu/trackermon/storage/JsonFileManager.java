@@ -5,7 +5,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
 
+import javafx.application.Platform;
 import javafx.stage.FileChooser;
 
 /**
@@ -53,7 +57,7 @@ public class JsonFileManager {
      */
     public int exportFile(Path dataPath) {
         fileChooser.setTitle(EXPORT_TITLE);
-        File selectedFile = fileChooser.showSaveDialog(null);
+        File selectedFile = showDialog(() -> fileChooser.showSaveDialog(null));
 
         if (selectedFile != null) {
             if (!selectedFile.getAbsolutePath().endsWith(".json")) {
@@ -80,7 +84,7 @@ public class JsonFileManager {
      */
     public int importFile(Path dataPath) {
         fileChooser.setTitle(IMPORT_TITLE);
-        File selectedFile = fileChooser.showOpenDialog(null);
+        File selectedFile = showDialog(() -> fileChooser.showOpenDialog(null));
 
         if (selectedFile != null) {
             Path importPath = selectedFile.toPath();
@@ -94,4 +98,27 @@ public class JsonFileManager {
         }
         return CANCEL;
     }
+
+    /**
+     * Shows the file chooser dialog opened by {@code dialog} on the JavaFX application thread, and waits for the
+     * user to close it, since commands that import and export files are not run on that thread.
+     *
+     * @return the file chosen, or null if no file was chosen.
+     */
+    private static File showDialog(Supplier<File> dialog) {
+        if (Platform.isFxApplicationThread()) {
+            return dialog.get();
+        }
+
+        FutureTask<File> dialogTask = new FutureTask<>(dialog::get);
+        Platform.runLater(dialogTask);
+        try {
+            return dialogTask.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not show file chooser", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
 }
@@ -21,13 +21,15 @@ class JsonSerializableShowList {
 
     public static final String MESSAGE_DUPLICATE_SHOW = "Trackermon contains duplicate show(s).";
 
+    static final String SHOWS_FIELD = "shows";
+
     private final List<JsonAdaptedShow> shows = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableShowList} with the given shows.
      */
     @JsonCreator
-    public JsonSerializableShowList(@JsonProperty("shows") List<JsonAdaptedShow> shows) {
+    public JsonSerializableShowList(@JsonProperty(SHOWS_FIELD) List<JsonAdaptedShow> shows) {
         this.shows.addAll(shows);
     }
 
@@ -47,8 +49,7 @@ class JsonSerializableShowList {
      */
     public ShowList toModelType() throws IllegalValueException {
         ShowList showList = new ShowList();
-        for (JsonAdaptedShow jsonAdaptedShow : shows) {
-            Show show = jsonAdaptedShow.toModelType();
+        for (Show show : toModelShows()) {
             if (showList.hasShow(show)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_SHOW);
             }
@@ -57,4 +58,14 @@ class JsonSerializableShowList {
         return showList;
     }
 
+    /**
+     * Converts each show in this show list into the model's {@code Show} object in parallel, without checking for
+     * duplicates. The shows are returned in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<Show> toModelShows() throws IllegalValueException {
+        return ParallelShowConverter.toModelShows(shows);
+    }
+
 }
@@ -0,0 +1,116 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.commons.util.JsonUtil;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Show;
+
+/**
+ * Reads show lists in the format of {@code JsonSerializableShowList} one show at a time.
+ * Parsed shows are converted into the model's {@code Show} in parallel batches by a {@code ParallelShowConverter},
+ * so only a few batches of {@code JsonAdaptedShow} are held in memory at a time, instead of the whole file and
+ * all of its shows.
+ */
+class JsonShowListReader {
+
+    public static final String MESSAGE_NOT_SHOW_LIST = "Expected a json object with an array of shows";
+
+    private JsonShowListReader() {}
+
+    /**
+     * Reads the shows in {@code inputStream} into a new {@code ShowList}.
+     *
+     * @throws IOException if the stream could not be read or is not a show list.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ShowList readShowList(InputStream inputStream) throws IOException, IllegalValueException {
+        ShowList showList = new ShowList();
+        readShows(inputStream, show -> {
+            if (showList.hasShow(show)) {
+                throw new IllegalValueException(JsonSerializableShowList.MESSAGE_DUPLICATE_SHOW);
+            }
+            showList.addShow(show);
+        });
+        return showList;
+    }
+
+    /**
+     * Reads the shows in {@code inputStream} in order, without checking for duplicates.
+     *
+     * @throws IOException if the stream could not be read or is not a show list.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static List<Show> readShows(InputStream inputStream) throws IOException, IllegalValueException {
+        List<Show> shows = new ArrayList<>();
+        readShows(inputStream, shows::add);
+        return shows;
+    }
+
+    /**
+     * Passes each show in {@code inputStream} to {@code showHandler} in order, once it has been read and converted.
+     * Fields other than the shows are skipped. {@code inputStream} is left open.
+     * As when reading the shows one after another, an invalid show is reported in preference to any error in the
+     * stream after it.
+     *
+     * @throws IOException if the stream could not be read or is not a show list.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static void readShows(InputStream inputStream, ShowHandler showHandler)
+            throws IOException, IllegalValueException {
+        requireNonNull(inputStream);
+        requireNonNull(showHandler);
+
+        ParallelShowConverter converter = new ParallelShowConverter(showHandler);
+        try (JsonParser parser = JsonUtil.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_SHOW_LIST);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!JsonSerializableShowList.SHOWS_FIELD.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, MESSAGE_NOT_SHOW_LIST);
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    converter.add(parser.readValueAs(JsonAdaptedShow.class));
+                }
+                if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, MESSAGE_NOT_SHOW_LIST);
+                }
+            }
+        } catch (IOException e) {
+            // Shows read before the error are handled first, in case one of them is invalid
+            converter.finish();
+            throw e;
+        }
+        converter.finish();
+    }
+
+    /**
+     * Represents a function that is given each show as it is read.
+     */
+    @FunctionalInterface
+    public interface ShowHandler {
+        /**
+         * Handles the next show that was read.
+         *
+         * @throws IllegalValueException if the show cannot be added to the shows read so far.
+         */
+        void handle(Show show) throws IllegalValueException;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.trackermon.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,8 +12,6 @@ import java.util.logging.Logger;
 import seedu.trackermon.commons.core.LogsCenter;
 import seedu.trackermon.commons.exceptions.DataConversionException;
 import seedu.trackermon.commons.exceptions.IllegalValueException;
-import seedu.trackermon.commons.util.FileUtil;
-import seedu.trackermon.commons.util.JsonUtil;
 import seedu.trackermon.model.ReadOnlyShowList;
 
 /**
@@ -22,9 +22,21 @@ public class JsonShowListStorage implements ShowListStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonShowListStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final DataFileGenerations generations;
 
     public JsonShowListStorage(Path filePath) {
+        this(filePath, false, 0);
+    }
+
+    /**
+     * Creates a {@code JsonShowListStorage} for the file at {@code filePath}, which is indented over multiple lines
+     * when saved if {@code isPrettyPrinted} is true, and keeps {@code keptGenerations} previous versions of itself.
+     */
+    public JsonShowListStorage(Path filePath, boolean isPrettyPrinted, int keptGenerations) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.generations = new DataFileGenerations(keptGenerations);
     }
 
     public Path getShowListFilePath() {
@@ -38,6 +50,7 @@ public class JsonShowListStorage implements ShowListStorage {
 
     /**
      * Similar to {@link #readShowList()}.
+     * The file is read and converted one show at a time, instead of being read into memory as a whole first.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,20 +58,27 @@ public class JsonShowListStorage implements ShowListStorage {
     public Optional<ReadOnlyShowList> readShowList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableShowList> jsonShowList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableShowList.class);
-        if (!jsonShowList.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonShowList.get().toModelType());
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return Optional.of(JsonShowListReader.readShowList(inputStream));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    @Override
+    public Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException {
+        return generations.read(filePath, this::readShowList);
+    }
+
     @Override
     public void saveShowList(ReadOnlyShowList showList) throws IOException {
         saveShowList(showList, filePath);
@@ -66,6 +86,8 @@ public class JsonShowListStorage implements ShowListStorage {
 
     /**
      * Similar to {@link #saveShowList(ReadOnlyShowList)}.
+     * The shows are written to the file one at a time, instead of being converted into a string as a whole first.
+     * The file is replaced only once all of the shows have been written, so it is never left partially written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +95,14 @@ public class JsonShowListStorage implements ShowListStorage {
         requireNonNull(showList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableShowList(showList), filePath);
+        generations.write(filePath, outputStream ->
+                JsonShowListWriter.writeShows(showList.getShows(), outputStream, isPrettyPrinted));
     }
 
+    /**
+     * Does nothing, since show lists are written before {@link #saveShowList(ReadOnlyShowList)} returns.
+     */
+    @Override
+    public void flushShowList() {}
+
 }
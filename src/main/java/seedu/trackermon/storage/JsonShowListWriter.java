@@ -0,0 +1,44 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.trackermon.commons.util.JsonUtil;
+import seedu.trackermon.model.show.Show;
+
+/**
+ * Writes show lists in the format of {@code JsonSerializableShowList} one show at a time.
+ * Each show is converted into a {@code JsonAdaptedShow} only when it is written, and the output is encoded
+ * straight into the generator's buffer, so the document is never held in memory as a whole.
+ */
+class JsonShowListWriter {
+
+    private JsonShowListWriter() {}
+
+    /**
+     * Writes {@code shows} to {@code outputStream} in order. {@code outputStream} is left open.
+     *
+     * @param isPrettyPrinted whether the shows are indented over multiple lines, instead of written on one line.
+     * @throws IOException if the stream could not be written to.
+     */
+    public static void writeShows(List<Show> shows, OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(shows);
+        requireNonNull(outputStream);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(JsonSerializableShowList.SHOWS_FIELD);
+            for (Show show : shows) {
+                generator.writeObject(new JsonAdaptedShow(show));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
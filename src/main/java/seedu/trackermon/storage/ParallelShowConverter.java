@@ -0,0 +1,130 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.storage.JsonShowListReader.ShowHandler;
+
+/**
+ * Converts {@code JsonAdaptedShow}s into the model's {@code Show}s across all cores, on the common fork-join pool.
+ * Shows are added in batches, and each batch is converted while the next one is being added, so reading the
+ * data file overlaps with validating the shows in it. Converted shows are passed to a {@code ShowHandler} in the
+ * order they were added, and an invalid show is only reported once every show before it has been handled,
+ * so the shows handled and the error thrown are the same as when converting the shows one after another.
+ */
+class ParallelShowConverter {
+
+    static final int BATCH_SIZE = 1024;
+
+    private final ShowHandler showHandler;
+    private List<JsonAdaptedShow> batch = new ArrayList<>(BATCH_SIZE);
+    private ForkJoinTask<ConvertedBatch> pendingBatch;
+
+    /**
+     * Creates a {@code ParallelShowConverter} that passes converted shows to {@code showHandler}.
+     */
+    ParallelShowConverter(ShowHandler showHandler) {
+        requireNonNull(showHandler);
+        this.showHandler = showHandler;
+    }
+
+    /**
+     * Converts each of {@code adaptedShows} in parallel, and returns the converted shows in the same order.
+     *
+     * @throws IllegalValueException if any show violates the data constraints. The first such show is reported.
+     */
+    static List<Show> toModelShows(List<JsonAdaptedShow> adaptedShows) throws IllegalValueException {
+        requireNonNull(adaptedShows);
+        List<Show> shows = new ArrayList<>(adaptedShows.size());
+        convert(adaptedShows).handleAll(shows::add);
+        return shows;
+    }
+
+    /**
+     * Adds {@code adaptedShow} to be converted after the shows added before it.
+     * Shows from earlier batches may be handled before this returns.
+     *
+     * @throws IllegalValueException if an earlier show violates the data constraints, or is rejected by the handler.
+     */
+    void add(JsonAdaptedShow adaptedShow) throws IllegalValueException {
+        requireNonNull(adaptedShow);
+        batch.add(adaptedShow);
+        if (batch.size() < BATCH_SIZE) {
+            return;
+        }
+
+        List<JsonAdaptedShow> fullBatch = batch;
+        batch = new ArrayList<>(BATCH_SIZE);
+        handlePendingBatch();
+        pendingBatch = ForkJoinPool.commonPool().submit(() -> convert(fullBatch));
+    }
+
+    /**
+     * Converts and handles every show that has been added but not handled yet.
+     *
+     * @throws IllegalValueException if a show violates the data constraints, or is rejected by the handler.
+     */
+    void finish() throws IllegalValueException {
+        handlePendingBatch();
+        List<JsonAdaptedShow> lastBatch = batch;
+        batch = new ArrayList<>(BATCH_SIZE);
+        convert(lastBatch).handleAll(showHandler);
+    }
+
+    private void handlePendingBatch() throws IllegalValueException {
+        if (pendingBatch == null) {
+            return;
+        }
+        ForkJoinTask<ConvertedBatch> converting = pendingBatch;
+        pendingBatch = null;
+        converting.join().handleAll(showHandler);
+    }
+
+    private static ConvertedBatch convert(List<JsonAdaptedShow> adaptedShows) {
+        ConvertedBatch converted = new ConvertedBatch(adaptedShows.size());
+        IntStream.range(0, adaptedShows.size()).parallel().forEach(i -> {
+            try {
+                converted.shows[i] = adaptedShows.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                converted.errors[i] = ive;
+            }
+        });
+        return converted;
+    }
+
+    /**
+     * Holds the result of converting each show in a batch, which is either a show or the reason it is invalid.
+     */
+    private static class ConvertedBatch {
+
+        private final Show[] shows;
+        private final IllegalValueException[] errors;
+
+        ConvertedBatch(int size) {
+            shows = new Show[size];
+            errors = new IllegalValueException[size];
+        }
+
+        /**
+         * Passes each show to {@code showHandler} in order, up to the first invalid show.
+         *
+         * @throws IllegalValueException the reason the first invalid show is invalid, or any exception thrown by
+         *     {@code showHandler}.
+         */
+        void handleAll(ShowHandler showHandler) throws IllegalValueException {
+            for (int i = 0; i < shows.length; i++) {
+                if (errors[i] != null) {
+                    throw errors[i];
+                }
+                showHandler.handle(shows[i]);
+            }
+        }
+    }
+}
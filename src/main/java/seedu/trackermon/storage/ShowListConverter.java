@@ -0,0 +1,83 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.trackermon.commons.core.ShowListFormat;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.model.ReadOnlyShowList;
+
+/**
+ * Converts Trackermon data files between the json and binary formats, outside of the application.
+ * Run with {@code gradlew convertShowList --args="<json|binary> <source file> <target file>"}.
+ * The source file can be in either format.
+ */
+public class ShowListConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: ShowListConverter <json|binary> <source file> <target file>";
+    public static final String MESSAGE_SUCCESS = "Converted %1$d shows from %2$s to %3$s in %4$s format";
+
+    private ShowListConverter() {}
+
+    /**
+     * Reads the show list in {@code source}, and writes it to {@code target} in {@code targetFormat}.
+     *
+     * @return the number of shows converted.
+     * @throws DataConversionException if {@code source} is not a data file in either format.
+     * @throws IOException if {@code source} does not exist, or {@code target} could not be written.
+     */
+    public static int convert(Path source, Path target, ShowListFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(targetFormat);
+
+        // The binary storage reads json data files as well
+        ReadOnlyShowList showList = new BinaryShowListStorage(source).readShowList()
+                .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        ShowListStorage targetStorage = targetFormat == ShowListFormat.BINARY
+                ? new BinaryShowListStorage(target)
+                : new JsonShowListStorage(target);
+        targetStorage.saveShowList(showList);
+        return showList.getShows().size();
+    }
+
+    /**
+     * Converts the data file given in {@code args}, and exits with a non-zero status if it could not be converted.
+     */
+    public static void main(String[] args) {
+        ShowListFormat targetFormat = args.length == 3 ? parseFormat(args[0]) : null;
+        if (targetFormat == null) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Path source = Paths.get(args[1]);
+        Path target = Paths.get(args[2]);
+        try {
+            int showCount = convert(source, target, targetFormat);
+            System.out.println(String.format(MESSAGE_SUCCESS, showCount, source, target,
+                    targetFormat.name().toLowerCase(Locale.ROOT)));
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + source + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the format named {@code format}, ignoring case, or null if there is no such format.
+     */
+    private static ShowListFormat parseFormat(String format) {
+        try {
+            return ShowListFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
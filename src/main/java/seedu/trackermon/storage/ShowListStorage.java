@@ -30,6 +30,15 @@ public interface ShowListStorage {
      */
     Optional<ReadOnlyShowList> readShowList(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns Trackermon data as a {@link ReadOnlyShowList}, from the data file or, if the data file is missing or
+     * cannot be read, from the newest of its previous versions that can be read.
+     *   Returns {@code Optional.empty()} if neither the data file nor any previous version of it is found.
+     * @throws DataConversionException if none of the versions found are in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyShowList} to the storage.
      * @param showList cannot be null.
@@ -42,4 +51,10 @@ public interface ShowListStorage {
      */
     void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException;
 
+    /**
+     * Waits until every show list saved to the storage has been written.
+     * @throws IOException if there was any problem writing a saved show list.
+     */
+    void flushShowList() throws IOException;
+
 }
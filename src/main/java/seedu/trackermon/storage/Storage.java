@@ -29,4 +29,7 @@ public interface Storage extends ShowListStorage, UserPrefsStorage {
     @Override
     void saveShowList(ReadOnlyShowList showList) throws IOException;
 
+    @Override
+    void flushShowList() throws IOException;
+
 }
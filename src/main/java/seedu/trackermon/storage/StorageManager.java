@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.core.ShowListFormat;
 import seedu.trackermon.commons.exceptions.DataConversionException;
 import seedu.trackermon.model.ReadOnlyShowList;
 import seedu.trackermon.model.ReadOnlyUserPrefs;
@@ -28,6 +29,22 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns a {@code ShowListStorage} that reads and writes the data file in the format chosen in {@code userPrefs}.
+     */
+    public static ShowListStorage createShowListStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getShowListFilePath();
+        int generationCount = userPrefs.getShowListGenerationCount();
+        if (userPrefs.getShowListFormat() == ShowListFormat.BINARY) {
+            return new BinaryShowListStorage(filePath, generationCount, userPrefs.isShowListMapped());
+        }
+        if (userPrefs.isShowListJournaled()) {
+            return new JournaledShowListStorage(filePath, userPrefs.isShowListPrettyPrinted(), generationCount,
+                    JournaledShowListStorage.DEFAULT_COMPACTION_THRESHOLD);
+        }
+        return new JsonShowListStorage(filePath, userPrefs.isShowListPrettyPrinted(), generationCount);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -64,6 +81,12 @@ public class StorageManager implements Storage {
         return showListStorage.readShowList(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file or its previous versions: " + getShowListFilePath());
+        return showListStorage.readLatestValidShowList();
+    }
+
     @Override
     public void saveShowList(ReadOnlyShowList showList) throws IOException {
         saveShowList(showList, showListStorage.getShowListFilePath());
@@ -75,4 +98,10 @@ public class StorageManager implements Storage {
         showListStorage.saveShowList(showList, filePath);
     }
 
+    @Override
+    public void flushShowList() throws IOException {
+        logger.fine("Waiting for data file writes to finish");
+        showListStorage.flushShowList();
+    }
+
 }
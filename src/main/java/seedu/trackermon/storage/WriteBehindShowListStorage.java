@@ -0,0 +1,212 @@
+package seedu.trackermon.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.trackermon.commons.core.LogsCenter;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.commons.util.StringUtil;
+import seedu.trackermon.model.ReadOnlyShowList;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.ShowListChange;
+
+/**
+ * A {@code ShowListStorage} that saves show lists on a background thread instead of the calling thread.
+ * Each save takes a snapshot of the shows, which are immutable, so only the list itself is copied.
+ * Snapshots are written one at a time by a single writer thread, and only the latest snapshot for each file
+ * is kept while a write is in progress, so a burst of saves results in a single write of the final state.
+ * A snapshot that fails to be written is passed to the save failure handler, and is kept to be written again by
+ * the next save or flush, unless a later snapshot of the same file replaces it. {@link #flushShowList()} throws the
+ * failure if the snapshot still cannot be written.
+ */
+public class WriteBehindShowListStorage implements ShowListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindShowListStorage.class);
+
+    private final ShowListStorage showListStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "show-list-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // All of the following are guarded by this object.
+    private final Map<Path, ReadOnlyShowList> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriting;
+    private IOException saveFailure;
+    private Consumer<IOException> saveFailureHandler = e -> {};
+
+    /**
+     * Creates a {@code WriteBehindShowListStorage} that writes show lists with {@code showListStorage}.
+     */
+    public WriteBehindShowListStorage(ShowListStorage showListStorage) {
+        requireNonNull(showListStorage);
+        this.showListStorage = showListStorage;
+    }
+
+    /**
+     * Sets the handler that is given the exception of each save that fails.
+     * The handler is called on the writer thread.
+     */
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public Path getShowListFilePath() {
+        return showListStorage.getShowListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyShowList> readShowList() throws DataConversionException, IOException {
+        return readShowList(getShowListFilePath());
+    }
+
+    /**
+     * Reads the show list at {@code filePath}, after any pending saves have been written.
+     */
+    @Override
+    public Optional<ReadOnlyShowList> readShowList(Path filePath) throws DataConversionException, IOException {
+        flushShowList();
+        return showListStorage.readShowList(filePath);
+    }
+
+    /**
+     * Reads the show list, or its newest previous version that can be read, after any pending saves have been
+     * written.
+     */
+    @Override
+    public Optional<ReadOnlyShowList> readLatestValidShowList() throws DataConversionException, IOException {
+        flushShowList();
+        return showListStorage.readLatestValidShowList();
+    }
+
+    @Override
+    public void saveShowList(ReadOnlyShowList showList) {
+        saveShowList(showList, getShowListFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code showList} to be written to {@code filePath}, and returns without waiting
+     * for it to be written. A snapshot that is still waiting to be written to the same file is replaced.
+     */
+    @Override
+    public synchronized void saveShowList(ReadOnlyShowList showList, Path filePath) {
+        requireNonNull(showList);
+        requireNonNull(filePath);
+        pendingSnapshots.remove(filePath);
+        pendingSnapshots.put(filePath, new Snapshot(showList));
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Writes every pending save, including any that failed to be written before, waits until they have been written,
+     * and then flushes the underlying storage.
+     * @throws IOException if a save could not be written. The save is kept to be written again.
+     */
+    @Override
+    public synchronized void flushShowList() throws IOException {
+        boolean hasRetried = false;
+        boolean isInterrupted = false;
+        while (isWriting || (!hasRetried && !pendingSnapshots.isEmpty())) {
+            if (!isWriting) {
+                // Writes the snapshots that failed before this flush, or while it was waiting, once more
+                hasRetried = true;
+                isWriting = true;
+                writer.execute(this::writePendingSnapshots);
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        // The writer only stops with snapshots left when one of them could not be written
+        if (!pendingSnapshots.isEmpty()) {
+            throw saveFailure;
+        }
+        saveFailure = null;
+        showListStorage.flushShowList();
+    }
+
+    /**
+     * Writes pending snapshots, oldest first, until there are none left, or until one fails to be written.
+     * A snapshot that fails is kept pending, unless it has been replaced by a later one, and the writer stops so
+     * that it is not retried until the next save or flush.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            Map.Entry<Path, ReadOnlyShowList> next;
+            Consumer<IOException> handler;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, ReadOnlyShowList>> iterator = pendingSnapshots.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                next = iterator.next();
+                iterator.remove();
+                handler = saveFailureHandler;
+            }
+
+            try {
+                showListStorage.saveShowList(next.getValue(), next.getKey());
+                logger.fine("Wrote " + next.getValue().getShows().size() + " shows to " + next.getKey());
+            } catch (IOException | RuntimeException e) {
+                IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                logger.warning("Failed to write to " + next.getKey() + ": " + StringUtil.getDetails(failure));
+                handler.accept(failure);
+                synchronized (this) {
+                    saveFailure = failure;
+                    pendingSnapshots.putIfAbsent(next.getKey(), next.getValue());
+                    isWriting = false;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * A copy of the shows of a show list, together with the last change that had been made to it when it was copied.
+     */
+    private static class Snapshot implements ReadOnlyShowList {
+        private final ObservableList<Show> shows;
+        private final ShowListChange lastChange;
+
+        Snapshot(ReadOnlyShowList showList) {
+            shows = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(showList.getShows()));
+            lastChange = showList.getLastChange();
+        }
+
+        @Override
+        public ObservableList<Show> getShows() {
+            return shows;
+        }
+
+        @Override
+        public ShowListChange getLastChange() {
+            return lastChange;
+        }
+    }
+}
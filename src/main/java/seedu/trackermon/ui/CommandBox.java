@@ -1,34 +1,67 @@
 package seedu.trackermon.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.trackermon.logic.commands.CommandResult;
-import seedu.trackermon.logic.commands.exceptions.CommandException;
-import seedu.trackermon.logic.parser.exceptions.ParseException;
+import seedu.trackermon.logic.commands.FindCommand;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run in the background, so more commands can be entered while one is running. A progress indicator and a
+ * cancel button are shown until every command entered has finished.
+ * Find commands are previewed as they are typed, once no key has been typed for {@code PREVIEW_DELAY}. Any other
+ * text is previewed as soon as it is typed, which drops a preview that is shown, so that an index typed into a
+ * command always refers to the shows that are displayed.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error-message";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final Runnable commandCanceller;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
+    private int runningCommandCount;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator commandProgress;
+
+    @FXML
+    private Button cancelButton;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which previews commands as they are typed
+     * with {@code commandPreviewer}, and cancels the commands that have not started running with
+     * {@code commandCanceller}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandExecutor commandPreviewer, Runnable commandCanceller) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandCanceller = commandCanceller;
+        previewDelay.setOnFinished(event -> commandPreviewer.execute(commandTextField.getText()));
+        // calls #setStyleToDefault() and previews the command whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> {
+            setStyleToDefault();
+            if (FindCommand.isFindCommand(commandText)) {
+                previewDelay.playFromStart();
+            } else {
+                previewDelay.stop();
+                commandPreviewer.execute(commandText);
+            }
+        });
     }
 
     /**
@@ -41,12 +74,39 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        previewDelay.stop();
+        setRunningCommandCount(runningCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, failure) -> {
+            setRunningCommandCount(runningCommandCount - 1);
+            if (commandResult != null) {
+                // Keeps any command the user has started typing since
+                if (commandTextField.getText().equals(commandText)) {
+                    commandTextField.setText("");
+                }
+            } else if (!(failure instanceof CancellationException)) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Handles the cancel button pressed event.
+     */
+    @FXML
+    private void handleCancel() {
+        commandCanceller.run();
+    }
+
+    /**
+     * Shows the progress indicator and cancel button while {@code count} is more than zero.
+     */
+    private void setRunningCommandCount(int count) {
+        runningCommandCount = count;
+        boolean isRunning = count > 0;
+        commandProgress.setVisible(isRunning);
+        commandProgress.setManaged(isRunning);
+        cancelButton.setVisible(isRunning);
+        cancelButton.setManaged(isRunning);
     }
 
     /**
@@ -75,11 +135,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result, which is completed on the JavaFX application thread.
          *
-         * @see seedu.trackermon.logic.Logic#execute(String)
+         * @see seedu.trackermon.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -0,0 +1,48 @@
+package seedu.trackermon.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javafx.scene.image.Image;
+import seedu.trackermon.MainApp;
+import seedu.trackermon.commons.core.LogsCenter;
+
+/**
+ * Caches the images used by the UI, so that each image resource is read and decoded only once, and the same
+ * {@code Image} is shared by every view that displays it.
+ * The number of images decoded is counted, so that it can be checked that views do not decode images repeatedly.
+ */
+public class ImageCache {
+
+    private static final Logger logger = LogsCenter.getLogger(ImageCache.class);
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+    private static final AtomicLong decodeCount = new AtomicLong();
+
+    private ImageCache() {}
+
+    /**
+     * Returns the image at {@code imagePath} in the application's resources, decoding it if it is not cached.
+     */
+    public static Image getImage(String imagePath) {
+        requireNonNull(imagePath);
+        return images.computeIfAbsent(imagePath, ImageCache::decode);
+    }
+
+    /**
+     * Returns the number of images that have been decoded.
+     */
+    public static long getDecodeCount() {
+        return decodeCount.get();
+    }
+
+    private static Image decode(String imagePath) {
+        decodeCount.incrementAndGet();
+        logger.fine("Decoding image " + imagePath);
+        return new Image(MainApp.class.getResourceAsStream(imagePath));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.trackermon.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ChangeListener;
@@ -16,8 +18,6 @@ import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.commons.core.LogsCenter;
 import seedu.trackermon.logic.Logic;
 import seedu.trackermon.logic.commands.CommandResult;
-import seedu.trackermon.logic.commands.exceptions.CommandException;
-import seedu.trackermon.logic.parser.exceptions.ParseException;
 
 
 /**
@@ -28,6 +28,9 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
     private static final double PADDING = 5;
+    private static final String MESSAGE_CANCELLED = "Cancelled: %1$s";
+    private static final String MESSAGE_CANCELLED_PENDING = "Cancelled %1$d waiting commands. "
+            + "The running command will finish first.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -135,7 +138,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getShowListFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::previewCommand, this::cancelPendingCommands);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         ChangeListener<Number> stageSizeListener = (observable, oldValue, newValue) ->
@@ -196,35 +199,78 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
-     *
-     * @see Logic#execute(String)
+     * Shows {@code feedbackToUser} in the result display.
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    public void showFeedbackToUser(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    /**
+     * Starts executing the command, and shows its result once it has finished.
+     *
+     * @see Logic#executeAsync(String)
+     */
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = logic.executeAsync(commandText);
+        result.whenComplete((commandResult, failure) -> {
+            if (commandResult != null) {
+                handleCommandResult(commandResult);
+            } else if (failure instanceof CancellationException) {
+                logger.info("Cancelled command: " + commandText);
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_CANCELLED, commandText));
+            } else {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(failure.getMessage());
             }
+        });
+        return result;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Starts previewing the command, and shows how many shows it would list once the preview has finished.
+     * Previews of text that is not a find command, and previews that are no longer needed, are not shown.
+     *
+     * @see Logic#previewAsync(String)
+     */
+    private CompletableFuture<CommandResult> previewCommand(String commandText) {
+        CompletableFuture<CommandResult> result = logic.previewAsync(commandText);
+        result.thenAccept(commandResult -> {
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            handleUpdateList();
+        });
+        return result;
+    }
 
-            if (commandResult.getIndexAffected() != CommandResult.DEFAULT_INDEX) {
-                showListPanel.updateSelection(commandResult.getIndexAffected());
-            }
+    /**
+     * Shows the result of a command that has finished.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            handleUpdateList();
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.getIndexAffected() != CommandResult.DEFAULT_INDEX) {
+            showListPanel.updateSelection(commandResult.getIndexAffected());
         }
+
+        handleUpdateList();
+    }
+
+    /**
+     * Cancels the commands that have not started running.
+     *
+     * @see Logic#cancelPendingCommands()
+     */
+    private void cancelPendingCommands() {
+        int cancelledCount = logic.cancelPendingCommands();
+        logger.info("Cancelled " + cancelledCount + " waiting commands");
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_CANCELLED_PENDING, cancelledCount));
     }
 }
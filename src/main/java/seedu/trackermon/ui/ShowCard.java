@@ -1,17 +1,23 @@
 package seedu.trackermon.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.trackermon.MainApp;
 import seedu.trackermon.model.show.Rating;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Show}.
@@ -32,7 +38,10 @@ public class ShowCard extends UiPart<Region> {
      * where Trackermon is based on</a>
      */
 
-    public final Show show;
+    private final List<Label> tagLabels = new ArrayList<>();
+    private final ImageView[] stars = new ImageView[Rating.MAX_RATING];
+
+    private Show show;
 
     @FXML
     private HBox cardPane;
@@ -47,11 +56,32 @@ public class ShowCard extends UiPart<Region> {
     @FXML
     private FlowPane ratings;
 
+    /**
+     * Creates a {@code ShowCard} that does not display a show until {@link #setShow(Show, int)} is called.
+     */
+    public ShowCard() {
+        super(FXML);
+        for (int i = 0; i < stars.length; i++) {
+            stars[i] = getImageNode(ICON_STAR);
+            ratings.getChildren().add(stars[i]);
+        }
+    }
+
     /**
      * Creates a {@code ShowCard} with the given {@code Show} and index to display.
      */
     public ShowCard(Show show, int displayedIndex) {
-        super(FXML);
+        this();
+        setShow(show, displayedIndex);
+    }
+
+    /**
+     * Displays {@code show} with the given index in place of the show displayed before.
+     * The labels and images of this card are updated in place, and tag labels are only created when the card
+     * has never displayed as many tags before.
+     */
+    public void setShow(Show show, int displayedIndex) {
+        requireNonNull(show);
         this.show = show;
         id.setText(displayedIndex + ". ");
         name.setText(show.getName().name);
@@ -60,21 +90,33 @@ public class ShowCard extends UiPart<Region> {
         String statusMessage = "[" + statusString.substring(0, 1).toUpperCase()
                 + statusString.substring(1) + "]";
         status.setText(statusMessage);
-        show.getTags().stream()
+        setTags(show.getTags());
+
+        for (int i = 0; i < stars.length; i++) {
+            stars[i].setImage(ImageCache.getImage(i < show.getRating().rating ? ICON_STAR_FILLED : ICON_STAR));
+        }
+    }
+
+    /**
+     * Shows {@code showTags} in order of their names, reusing the tag labels created for earlier shows.
+     */
+    private void setTags(Set<Tag> showTags) {
+        List<Tag> sortedTags = showTags.stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.toString())));
-
-        for (int i = 0; i < Rating.MAX_RATING; i++) {
-            if (i < show.getRating().rating) {
-                ratings.getChildren().add(getImageNode(ICON_STAR_FILLED));
-            } else {
-                ratings.getChildren().add(getImageNode(ICON_STAR));
-            }
+                .collect(Collectors.toList());
+        while (tagLabels.size() < sortedTags.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            tagLabels.get(i).setText(sortedTags.get(i).toString());
+        }
+        if (tags.getChildren().size() != sortedTags.size()) {
+            tags.getChildren().setAll(tagLabels.subList(0, sortedTags.size()));
         }
     }
 
     private ImageView getImageNode(String imagePath) {
-        ImageView imageNode = new ImageView(new Image(MainApp.class.getResourceAsStream(imagePath)));
+        ImageView imageNode = new ImageView(ImageCache.getImage(imagePath));
         imageNode.setFitHeight(IMAGE_SIZE);
         imageNode.setFitWidth(IMAGE_SIZE);
         return imageNode;
@@ -100,6 +142,6 @@ public class ShowCard extends UiPart<Region> {
         // state check
         ShowCard card = (ShowCard) other;
         return id.getText().equals(card.id.getText())
-                && show.equals(card.show);
+                && Objects.equals(show, card.show);
     }
 }
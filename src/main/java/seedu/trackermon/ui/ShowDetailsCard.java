@@ -5,13 +5,11 @@ import java.util.Comparator;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
-import seedu.trackermon.MainApp;
 import seedu.trackermon.model.show.Rating;
 import seedu.trackermon.model.show.Show;
 
@@ -108,12 +106,12 @@ public class ShowDetailsCard extends UiPart<Region> {
             }
         }
 
-        comment.setText(show.getComment().comment);
+        comment.setText(show.getComment().getText());
         updateTextArea(name);
     }
 
     private ImageView getImageNode(String imagePath) {
-        ImageView imageNode = new ImageView(new Image(MainApp.class.getResourceAsStream(imagePath)));
+        ImageView imageNode = new ImageView(ImageCache.getImage(imagePath));
         imageNode.setFitHeight(IMAGE_SIZE);
         imageNode.setFitWidth(IMAGE_SIZE);
         return imageNode;
@@ -67,8 +67,13 @@ public class ShowListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Show} using a {@code ShowCard}.
+     * The card is created the first time the cell displays a show, and is updated in place whenever the cell is
+     * reused for another show, so the FXML of the card is only loaded once per cell.
      */
-    class ShowListViewCell extends ListCell<Show> {
+    static class ShowListViewCell extends ListCell<Show> {
+
+        private ShowCard showCard;
+
         @Override
         protected void updateItem(Show show, boolean empty) {
             super.updateItem(show, empty);
@@ -77,7 +82,11 @@ public class ShowListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ShowCard(show, getIndex() + 1).getRoot());
+                if (showCard == null) {
+                    showCard = new ShowCard();
+                }
+                showCard.setShow(show, getIndex() + 1);
+                setGraphic(showCard.getRoot());
             }
         }
     }
@@ -1,5 +1,7 @@
 package seedu.trackermon.ui;
 
+import java.io.IOException;
+
 import javafx.stage.Stage;
 
 /**
@@ -12,4 +14,9 @@ public interface Ui {
      */
     void start(Stage primaryStage);
 
+    /**
+     * Tells the user that the show list could not be saved. May be called from any thread.
+     */
+    void showSaveFailure(IOException e);
+
 }
@@ -1,16 +1,16 @@
 package seedu.trackermon.ui;
 
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
-import seedu.trackermon.MainApp;
 import seedu.trackermon.commons.core.LogsCenter;
 import seedu.trackermon.commons.util.StringUtil;
 import seedu.trackermon.logic.Logic;
+import seedu.trackermon.logic.LogicManager;
 
 
 /**
@@ -42,7 +42,7 @@ public class UiManager implements Ui {
         logger.info("Starting UI...");
 
         //Set the application icon.
-        primaryStage.getIcons().add(getImage(ICON_APPLICATION));
+        primaryStage.getIcons().add(ImageCache.getImage(ICON_APPLICATION));
 
         try {
             mainWindow = new MainWindow(primaryStage, logic);
@@ -55,8 +55,17 @@ public class UiManager implements Ui {
         }
     }
 
-    private Image getImage(String imagePath) {
-        return new Image(MainApp.class.getResourceAsStream(imagePath));
+    /**
+     * Shows the save failure in the result display of the main window, on the JavaFX application thread.
+     */
+    @Override
+    public void showSaveFailure(IOException e) {
+        logger.warning("Failed to save show list: " + StringUtil.getDetails(e));
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showFeedbackToUser(LogicManager.FILE_OPS_SAVE_ERROR_MESSAGE + e);
+            }
+        });
     }
 
     void showAlertDialogAndWait(AlertType type, String title, String headerText, String contentText) {
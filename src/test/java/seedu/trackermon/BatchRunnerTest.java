@@ -0,0 +1,88 @@
+package seedu.trackermon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.trackermon.commons.core.Messages.MESSAGE_DUPLICATE_SHOW;
+import static seedu.trackermon.logic.commands.CommandTestUtil.NAME_DESC_ALICE_IN_WONDERLAND;
+import static seedu.trackermon.logic.commands.CommandTestUtil.NAME_DESC_GONE;
+import static seedu.trackermon.logic.commands.CommandTestUtil.RATING_DESC_HIGH;
+import static seedu.trackermon.logic.commands.CommandTestUtil.STATUS_DESC_COMPLETED;
+import static seedu.trackermon.logic.commands.CommandTestUtil.STATUS_DESC_WATCHING;
+import static seedu.trackermon.logic.commands.CommandTestUtil.VALID_NAME_GONE;
+import static seedu.trackermon.logic.commands.CommandTestUtil.VALID_RATING_HIGH;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.logic.LogicManager;
+import seedu.trackermon.logic.commands.AddCommand;
+import seedu.trackermon.logic.commands.DeleteCommand;
+import seedu.trackermon.logic.commands.EditCommand;
+import seedu.trackermon.logic.commands.ExitCommand;
+import seedu.trackermon.logic.commands.ImportCommand;
+import seedu.trackermon.model.ModelManager;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.storage.BatchedShowListStorage;
+import seedu.trackermon.storage.JsonShowListStorage;
+import seedu.trackermon.storage.JsonUserPrefsStorage;
+import seedu.trackermon.storage.StorageManager;
+
+/**
+ * Contains integration tests (interaction with the Logic and Storage) for {@code BatchRunner}.
+ */
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that every command up to {@code exit} is run, that failed and unsupported commands are reported with
+     * their line numbers and skipped, and that the show list is saved once they have run.
+     */
+    @Test
+    public void run_commands_showListSaved() throws Exception {
+        Path filePath = testFolder.resolve("Trackermon.json");
+        StorageManager storage = new StorageManager(new BatchedShowListStorage(new JsonShowListStorage(filePath), 0),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+        ModelManager model = new ModelManager();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        BatchRunner runner = new BatchRunner(new LogicManager(model, storage), storage,
+                new PrintStream(errors, true, StandardCharsets.UTF_8));
+
+        String commands = String.join("\n",
+                BatchRunner.COMMENT_PREFIX + " Adds two shows",
+                AddCommand.COMMAND_WORD + NAME_DESC_ALICE_IN_WONDERLAND + STATUS_DESC_COMPLETED,
+                "",
+                AddCommand.COMMAND_WORD + NAME_DESC_GONE + STATUS_DESC_WATCHING,
+                AddCommand.COMMAND_WORD + NAME_DESC_ALICE_IN_WONDERLAND + STATUS_DESC_COMPLETED,
+                ImportCommand.COMMAND_WORD,
+                EditCommand.COMMAND_WORD + " 2" + RATING_DESC_HIGH,
+                DeleteCommand.COMMAND_WORD + " 1",
+                ExitCommand.COMMAND_WORD,
+                DeleteCommand.COMMAND_WORD + " 1");
+        runner.run(new BufferedReader(new StringReader(commands)));
+
+        assertEquals(6, runner.getCommandCount());
+        assertEquals(2, runner.getFailureCount());
+        assertEquals(String.format(BatchRunner.MESSAGE_FAILED_COMMAND, 5, MESSAGE_DUPLICATE_SHOW)
+                + System.lineSeparator()
+                + String.format(BatchRunner.MESSAGE_FAILED_COMMAND, 6,
+                        String.format(BatchRunner.MESSAGE_UNSUPPORTED_COMMAND, ImportCommand.COMMAND_WORD))
+                + System.lineSeparator(), errors.toString(StandardCharsets.UTF_8));
+
+        ShowList saved = new ShowList(new JsonShowListStorage(filePath).readShowList().get());
+        assertEquals(model.getShowList(), saved);
+        assertEquals(1, saved.getShows().size());
+        Show gone = saved.getShows().get(0);
+        assertEquals(VALID_NAME_GONE, gone.getName().name);
+        assertEquals(new Rating(VALID_RATING_HIGH), gone.getRating());
+    }
+}
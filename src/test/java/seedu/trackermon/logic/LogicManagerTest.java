@@ -1,26 +1,46 @@
 package seedu.trackermon.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.commons.core.Messages.MESSAGE_INVALID_INDEX;
+import static seedu.trackermon.commons.core.Messages.MESSAGE_SHOWS_LISTED_OVERVIEW;
 import static seedu.trackermon.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.trackermon.logic.commands.CommandTestUtil.COMMENT_DESC_BAD;
 import static seedu.trackermon.logic.commands.CommandTestUtil.NAME_DESC_ALICE_IN_WONDERLAND;
+import static seedu.trackermon.logic.commands.CommandTestUtil.NAME_DESC_GONE;
 import static seedu.trackermon.logic.commands.CommandTestUtil.RATING_DESC_HIGH;
+import static seedu.trackermon.logic.commands.CommandTestUtil.RATING_DESC_LOW;
 import static seedu.trackermon.logic.commands.CommandTestUtil.STATUS_DESC_COMPLETED;
+import static seedu.trackermon.logic.commands.CommandTestUtil.VALID_RATING_LOW;
+import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.trackermon.testutil.Assert.assertThrows;
 import static seedu.trackermon.testutil.TypicalShows.ALICE_IN_WONDERLAND;
+import static seedu.trackermon.testutil.TypicalShows.GONE;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.logic.commands.AddCommand;
 import seedu.trackermon.logic.commands.CommandResult;
+import seedu.trackermon.logic.commands.DeleteCommand;
+import seedu.trackermon.logic.commands.EditCommand;
+import seedu.trackermon.logic.commands.FindCommand;
 import seedu.trackermon.logic.commands.HelpCommand;
 import seedu.trackermon.logic.commands.ListCommand;
 import seedu.trackermon.logic.commands.exceptions.CommandException;
@@ -113,6 +133,188 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    /**
+     * Tests that read-only commands and commands that do not change the show list do not save it.
+     */
+    @Test
+    public void execute_showListUnchanged_doesNotSave() throws Exception {
+        JsonShowListStorage showListStorage =
+                new JsonShowListIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionShowList.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(showListStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandSuccess(FindCommand.COMMAND_WORD + " " + PREFIX_NAME + "alice",
+                String.format(MESSAGE_SHOWS_LISTED_OVERVIEW, 0), model);
+        assertCommandException("delete 9", MESSAGE_INVALID_INDEX);
+    }
+
+    /**
+     * Tests that commands executed in the background run in the order they were given, and that the filtered show
+     * list is published once each command has finished.
+     */
+    @Test
+    public void executeAsync_commandsInOrder_publishesFilteredShowList() throws Exception {
+        ExecutorService commandWorker = Executors.newSingleThreadExecutor();
+        logic = createLogic(commandWorker);
+
+        String addAliceCommand = AddCommand.COMMAND_WORD + NAME_DESC_ALICE_IN_WONDERLAND + STATUS_DESC_COMPLETED;
+        String addGoneCommand = AddCommand.COMMAND_WORD + NAME_DESC_GONE + STATUS_DESC_COMPLETED;
+        CompletableFuture<CommandResult> addAlice = logic.executeAsync(addAliceCommand);
+        CompletableFuture<CommandResult> addGone = logic.executeAsync(addGoneCommand);
+        CompletableFuture<CommandResult> deleteAlice = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+        CompletableFuture<CommandResult> deleteMissing = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 9");
+
+        // Waits for every command, since they run in order
+        assertEquals(MESSAGE_INVALID_INDEX, deleteMissing.handle((result, failure) -> failure.getMessage()).get());
+        assertTrue(deleteMissing.isCompletedExceptionally());
+        logic.shutdown();
+
+        Model expectedModel = new ModelManager();
+        Logic expectedLogic = new LogicManager(expectedModel, new StorageManager(
+                new JsonShowListStorage(temporaryFolder.resolve("expected.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("expectedUserPrefs.json"))));
+        assertEquals(expectedLogic.execute(addAliceCommand), addAlice.get());
+        assertEquals(expectedLogic.execute(addGoneCommand), addGone.get());
+        assertEquals(expectedLogic.execute(DeleteCommand.COMMAND_WORD + " 1"), deleteAlice.get());
+
+        assertEquals(expectedModel, model);
+        assertEquals(expectedLogic.getFilteredShowList(), logic.getFilteredShowList());
+        assertEquals(model.getFilteredShowList(), logic.getFilteredShowList());
+    }
+
+    /**
+     * Tests that cancelling pending commands stops them from running, and that commands cannot be executed after
+     * shutting down.
+     */
+    @Test
+    public void cancelPendingCommands_commandsWaiting_commandsNotRun() throws Exception {
+        ExecutorService commandWorker = Executors.newSingleThreadExecutor();
+        CountDownLatch runningCommand = new CountDownLatch(1);
+        commandWorker.execute(() -> {
+            try {
+                runningCommand.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        logic = createLogic(commandWorker);
+
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddCommand.COMMAND_WORD
+                + NAME_DESC_ALICE_IN_WONDERLAND + STATUS_DESC_COMPLETED);
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.cancelPendingCommands());
+        assertEquals(0, logic.cancelPendingCommands());
+        runningCommand.countDown();
+        logic.shutdown();
+
+        assertTrue(add.isCancelled());
+        assertTrue(list.isCancelled());
+        assertEquals(new ModelManager(), model);
+        assertTrue(logic.executeAsync(ListCommand.COMMAND_WORD).isCancelled());
+    }
+
+    /**
+     * Tests that previewing a find publishes the shows it would list without changing the model, that text that is
+     * not a find restores the filtered show list, and that a preview is cancelled once a later preview is given.
+     */
+    @Test
+    public void previewAsync_findCommand_publishesPreview() throws Exception {
+        ExecutorService commandWorker = Executors.newSingleThreadExecutor();
+        CountDownLatch runningCommand = new CountDownLatch(1);
+        commandWorker.execute(() -> {
+            try {
+                runningCommand.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        model.addShow(ALICE_IN_WONDERLAND);
+        model.addShow(GONE);
+        logic = createLogic(commandWorker);
+
+        CompletableFuture<CommandResult> stalePreview = logic.previewAsync(FindCommand.COMMAND_WORD + " n/al");
+        CompletableFuture<CommandResult> preview = logic.previewAsync(FindCommand.COMMAND_WORD + " n/ali");
+        runningCommand.countDown();
+        assertEquals(String.format(MESSAGE_SHOWS_LISTED_OVERVIEW, 1), preview.get().getFeedbackToUser());
+        assertTrue(stalePreview.isCancelled());
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND), logic.getFilteredShowList());
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND, GONE), model.getFilteredShowList());
+
+        CompletableFuture<CommandResult> invalidPreview = logic.previewAsync(ListCommand.COMMAND_WORD);
+        assertEquals(LogicManager.MESSAGE_NOT_PREVIEWABLE,
+                invalidPreview.handle((result, failure) -> failure.getMessage()).get());
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND, GONE), logic.getFilteredShowList());
+        logic.shutdown();
+    }
+
+    /**
+     * Tests that a shown preview is dropped as soon as text that is not a find is previewed or executed, even while
+     * a command is running, so that indexes refer to the shows that are displayed.
+     */
+    @Test
+    public void previewAsync_indexCommandTyped_dropsPreviewImmediately() throws Exception {
+        ExecutorService commandWorker = Executors.newSingleThreadExecutor();
+        model.addShow(ALICE_IN_WONDERLAND);
+        model.addShow(GONE);
+        logic = createLogic(commandWorker);
+        String deleteFirstCommand = DeleteCommand.COMMAND_WORD + " 1";
+
+        logic.previewAsync(FindCommand.COMMAND_WORD + " n/gone").get();
+        assertEquals(Arrays.asList(GONE), logic.getFilteredShowList());
+        CountDownLatch runningCommand = pauseWorker(commandWorker);
+        logic.previewAsync(deleteFirstCommand);
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND, GONE), logic.getFilteredShowList());
+        runningCommand.countDown();
+
+        logic.previewAsync(FindCommand.COMMAND_WORD + " n/gone").get();
+        runningCommand = pauseWorker(commandWorker);
+        CompletableFuture<CommandResult> delete = logic.executeAsync(deleteFirstCommand);
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND, GONE), logic.getFilteredShowList());
+        runningCommand.countDown();
+        delete.get();
+        logic.shutdown();
+
+        assertEquals(Arrays.asList(GONE), model.getShowList().getShows());
+        assertEquals(Arrays.asList(GONE), logic.getFilteredShowList());
+    }
+
+    /**
+     * Tests that an edit is published to the filtered and sorted show lists only once the UI runs the publish, and as
+     * one change to each of them.
+     */
+    @Test
+    public void executeAsync_editCommand_publishesOneChange() throws Exception {
+        ExecutorService commandWorker = Executors.newSingleThreadExecutor();
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        model.addShow(ALICE_IN_WONDERLAND);
+        model.addShow(GONE);
+        logic = new LogicManager(model, new StorageManager(
+                new JsonShowListStorage(temporaryFolder.resolve("Trackermon.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), commandWorker, uiTasks::add);
+        List<ListChangeListener.Change<? extends Show>> filteredChanges = new ArrayList<>();
+        List<ListChangeListener.Change<? extends Show>> sortedChanges = new ArrayList<>();
+        logic.getFilteredShowList().addListener(filteredChanges::add);
+        logic.getSortedShowList().addListener(sortedChanges::add);
+
+        CompletableFuture<CommandResult> edit = logic.executeAsync(EditCommand.COMMAND_WORD + " 1" + RATING_DESC_LOW);
+        Runnable publish = uiTasks.poll(10, TimeUnit.SECONDS);
+        Show editedShow = new ShowBuilder(ALICE_IN_WONDERLAND).withRating(VALID_RATING_LOW).build();
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND, GONE), logic.getSortedShowList());
+        assertEquals(Arrays.asList(editedShow, GONE), model.getSortedShowList());
+
+        publish.run();
+        edit.get();
+        logic.shutdown();
+        assertEquals(Arrays.asList(editedShow, GONE), logic.getFilteredShowList());
+        assertEquals(Arrays.asList(editedShow, GONE), logic.getSortedShowList());
+        assertEquals(1, filteredChanges.size());
+        assertEquals(1, sortedChanges.size());
+        assertThrows(UnsupportedOperationException.class, () -> logic.getSortedShowList().remove(0));
+    }
+
     /**
      * Tests unsupported operation exception from the execution of {@code LogicManager}.
      */
@@ -138,6 +340,33 @@ public class LogicManagerTest {
         assertEquals(new GuiSettings(), logic.getGuiSettings());
     }
 
+    /**
+     * Keeps {@code commandWorker} busy until the returned latch is counted down.
+     */
+    private static CountDownLatch pauseWorker(ExecutorService commandWorker) {
+        CountDownLatch runningCommand = new CountDownLatch(1);
+        commandWorker.execute(() -> {
+            try {
+                runningCommand.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return runningCommand;
+    }
+
+    /**
+     * Creates a {@code LogicManager} that runs commands on {@code commandWorker}, and publishes their results on the
+     * same thread.
+     */
+    private Logic createLogic(ExecutorService commandWorker) {
+        JsonShowListStorage showListStorage =
+                new JsonShowListStorage(temporaryFolder.resolve("Trackermon.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(showListStorage, userPrefsStorage);
+        return new LogicManager(model, storage, commandWorker, Runnable::run);
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -23,6 +23,8 @@ import seedu.trackermon.model.ReadOnlyShowList;
 import seedu.trackermon.model.ReadOnlyUserPrefs;
 import seedu.trackermon.model.ShowList;
 import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.query.FindQuery;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
 import seedu.trackermon.testutil.ShowBuilder;
 
 /**
@@ -161,6 +163,14 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getShowListModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -217,6 +227,22 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void updateFilteredShowList(Predicate<Show> predicate, Comparator<Show> ranking) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public FindQueryPredicate getFindQueryPredicate(FindQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * {@inheritDoc}
          */
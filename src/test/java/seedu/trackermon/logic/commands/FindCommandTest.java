@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.commons.core.Messages.MESSAGE_SHOWS_LISTED_OVERVIEW;
 import static seedu.trackermon.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.trackermon.testutil.Assert.assertThrows;
 import static seedu.trackermon.testutil.TypicalShows.ALICE_IN_WONDERLAND;
 import static seedu.trackermon.testutil.TypicalShows.FRIENDS;
 import static seedu.trackermon.testutil.TypicalShows.GONE;
+import static seedu.trackermon.testutil.TypicalShows.HANCOCK;
 import static seedu.trackermon.testutil.TypicalShows.HIMYM;
 import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
 
@@ -15,19 +17,25 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.trackermon.model.Model;
 import seedu.trackermon.model.ModelManager;
 import seedu.trackermon.model.UserPrefs;
+import seedu.trackermon.model.show.NameComparator;
 import seedu.trackermon.model.show.NameContainsKeywordsPredicate;
 import seedu.trackermon.model.show.RatingContainsKeywordsPredicate;
 import seedu.trackermon.model.show.Show;
 import seedu.trackermon.model.show.ShowContainsKeywordsPredicate;
 import seedu.trackermon.model.show.StatusContainsKeywordsPredicate;
 import seedu.trackermon.model.show.TagsContainsKeywordsPredicate;
+import seedu.trackermon.model.show.query.FindQueryPredicate;
+import seedu.trackermon.testutil.FindShowDescriptorBuilder;
+import seedu.trackermon.testutil.ShowBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -111,6 +119,25 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ALICE_IN_WONDERLAND), model.getFilteredShowList());
     }
 
+    /**
+     * Tests the finding of name field using the name trigram index from the execution of {@code FindCommand}.
+     */
+    @Test
+    public void execute_nameFieldWithNameIndex_preciseSearch() {
+        String expectedMessage = String.format(MESSAGE_SHOWS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(new FindShowDescriptorBuilder()
+                .withNameKeywords("ALICE", "in", "land").build());
+        expectedModel.updateFilteredShowList(new NameContainsKeywordsPredicate(Arrays.asList("ALICE"))
+                .and(new NameContainsKeywordsPredicate(Arrays.asList("in")))
+                .and(new NameContainsKeywordsPredicate(Arrays.asList("land"))));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND), model.getFilteredShowList());
+
+        // deleting the show updates the filtered list
+        model.deleteShow(ALICE_IN_WONDERLAND);
+        assertEquals(Collections.emptyList(), model.getFilteredShowList());
+    }
+
     /**
      * Tests the finding of status field for a precise search from the execution of {@code FindCommand}.
      */
@@ -142,6 +169,94 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(FRIENDS, HIMYM), model.getFilteredShowList());
     }
 
+    /**
+     * Tests the finding of tag field using the tag index from the execution of {@code FindCommand}.
+     */
+    @Test
+    public void execute_tagFieldWithTagIndex_preciseSearch() {
+        String expectedMessage = String.format(MESSAGE_SHOWS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(new FindShowDescriptorBuilder()
+                .withTagKeywords("Horror", "friends").build());
+        expectedModel.updateFilteredShowList(new TagsContainsKeywordsPredicate(Arrays.asList("Horror"))
+                .and(new TagsContainsKeywordsPredicate(Arrays.asList("friends"))));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FRIENDS, HIMYM), model.getFilteredShowList());
+
+        // partial tag keywords match the same shows as a scan of the tags
+        FindCommand.FindShowDescriptor descriptor = new FindShowDescriptorBuilder().withTagKeywords("orr", "END")
+                .build();
+        command = new FindCommand(descriptor);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FRIENDS, HIMYM), model.getFilteredShowList());
+
+        // A FilteredList tests the shows added by a change while the change is reported, and keeps the result
+        FindQueryPredicate predicate = model.getFindQueryPredicate(descriptor.toFindQuery());
+        assertTrue(predicate.test(FRIENDS));
+        List<Boolean> resultsWhileReported = new ArrayList<>();
+        model.getShowList().getShows().addListener((ListChangeListener<Show>) change -> {
+            while (change.next()) {
+                if (change.wasAdded()) {
+                    change.getAddedSubList().forEach(show -> resultsWhileReported.add(predicate.test(show)));
+                }
+            }
+        });
+
+        // editing a show updates the filtered list
+        Show editedShow = new ShowBuilder(ALICE_IN_WONDERLAND).withTags("horrors", "bestfriends").build();
+        model.setShow(ALICE_IN_WONDERLAND, editedShow);
+        assertEquals(Arrays.asList(true), resultsWhileReported);
+        assertEquals(Arrays.asList(editedShow, FRIENDS, HIMYM), model.getFilteredShowList());
+    }
+
+    /**
+     * Tests the finding of comment field using the comment index from the execution of {@code FindCommand}.
+     */
+    @Test
+    public void execute_commentField_rankedByTermFrequency() {
+        Show fewMentions = new ShowBuilder().withName("Few Mentions").withComment("Good plot.").build();
+        Show manyMentions = new ShowBuilder().withName("Many Mentions")
+                .withComment("Good plot, good cast, GOOD ending!").build();
+        model.addShow(fewMentions);
+        model.addShow(manyMentions);
+
+        FindCommand command = new FindCommand(new FindShowDescriptorBuilder()
+                .withCommentKeywords("good", "PLOT").build());
+        String expectedMessage = String.format(MESSAGE_SHOWS_LISTED_OVERVIEW, 2);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(manyMentions, fewMentions), model.getFilteredShowList());
+
+        // whole terms only
+        command = new FindCommand(new FindShowDescriptorBuilder().withCommentKeywords("goo").build());
+        command.execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredShowList());
+
+        // another find restores the list order
+        new FindCommand(Model.PREDICATE_SHOW_ALL_SHOWS).execute(model);
+        assertEquals(fewMentions, model.getFilteredShowList().get(model.getFilteredShowList().size() - 2));
+    }
+
+    /**
+     * Tests the finding of status and rate fields using the bitmaps from the execution of {@code FindCommand}.
+     */
+    @Test
+    public void execute_statusAndRatingFieldsWithBitmaps_preciseSearch() {
+        FindCommand command = new FindCommand(new FindShowDescriptorBuilder()
+                .withStatuses("watching").withRatings("0", "5").build());
+        expectedModel.updateFilteredShowList(preparePredicateStatus("watching")
+                .and(preparePredicateRating("0 5")));
+        String expectedMessage = String.format(MESSAGE_SHOWS_LISTED_OVERVIEW, 4);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(GONE, FRIENDS, HIMYM, HANCOCK), model.getFilteredShowList());
+
+        // removing a show moves the positions of the later shows
+        model.deleteShow(GONE);
+        assertEquals(Arrays.asList(FRIENDS, HIMYM, HANCOCK), model.getFilteredShowList());
+
+        // sorting reorders the positions of the shows
+        model.updateSortedShowList(new NameComparator().reversed());
+        assertEquals(Arrays.asList(HIMYM, HANCOCK, FRIENDS), model.getFilteredShowList());
+    }
+
     /**
      * Tests the finding of rate field for a precise search from the execution of {@code FindCommand}.
      */
@@ -155,6 +270,86 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ALICE_IN_WONDERLAND), model.getFilteredShowList());
     }
 
+    /**
+     * Tests that a find is a refinement of another find only if every show it matches is matched by the other.
+     */
+    @Test
+    public void refines() {
+        FindCommand findAt = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("at").build());
+        FindCommand findAtta = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("ATTA").build());
+        FindCommand findAttaWatching = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("atta")
+                .withStatuses("watching").build());
+        FindCommand findAttaWatchingOrCompleted = new FindCommand(new FindShowDescriptorBuilder()
+                .withNameKeywords("atta").withStatuses("watching", "completed").build());
+
+        // extended keywords, and added or narrowed fields -> returns true
+        assertTrue(findAtta.refines(findAt));
+        assertTrue(findAttaWatching.refines(findAt));
+        assertTrue(findAttaWatching.refines(findAttaWatchingOrCompleted));
+        assertTrue(findAt.refines(findAt));
+
+        // shortened keywords, and removed or widened fields -> returns false
+        assertFalse(findAt.refines(findAtta));
+        assertFalse(findAtta.refines(findAttaWatching));
+        assertFalse(findAttaWatchingOrCompleted.refines(findAttaWatching));
+
+        // comment keywords -> returns false
+        FindCommand findComment = new FindCommand(new FindShowDescriptorBuilder().withCommentKeywords("good").build());
+        assertFalse(findComment.refines(findComment));
+
+        // general keywords
+        FindCommand findHero = new FindCommand(preparePredicate("hero"));
+        assertTrue(new FindCommand(preparePredicate("heroes")).refines(findHero));
+        assertFalse(new FindCommand(preparePredicate("hero ka")).refines(findHero));
+        assertFalse(findHero.refines(findAt));
+        assertFalse(findAt.refines(findHero));
+    }
+
+    /**
+     * Tests that previewing a find lists the same shows as executing it, without changing the model, and that
+     * a preview that extends the last preview only checks the shows of the last preview.
+     */
+    @Test
+    public void preview_extendedFind_refinesLastPreview() {
+        FindCommand findO = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("o").build());
+        FindCommand findOn = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("on").build());
+        FindCommand.Preview previewO = findO.preview(model, null, () -> false);
+        assertFalse(previewO.isRefined());
+        assertEquals(expectedModel, model);
+
+        FindCommand.Preview previewOn = findOn.preview(model, previewO, () -> false);
+        assertTrue(previewOn.isRefined());
+        findOn.execute(expectedModel);
+        assertEquals(expectedModel.getFilteredShowList(), previewOn.getShows());
+
+        // a preview is not refined once the show list has changed
+        model.deleteShow(GONE);
+        expectedModel.deleteShow(GONE);
+        previewOn = findOn.preview(model, previewO, () -> false);
+        assertFalse(previewOn.isRefined());
+        assertEquals(expectedModel.getFilteredShowList(), previewOn.getShows());
+
+        // a find that the name index narrows down
+        FindCommand findLand = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("LAND").build());
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND), findLand.preview(model, null, () -> false).getShows());
+
+        // general keywords
+        FindCommand findHim = new FindCommand(preparePredicate("him"));
+        FindCommand.Preview previewHim = findHim.preview(model, previewOn, () -> false);
+        assertFalse(previewHim.isRefined());
+        assertEquals(Arrays.asList(HIMYM), previewHim.getShows());
+        assertTrue(new FindCommand(preparePredicate("HIMY")).preview(model, previewHim, () -> false).isRefined());
+    }
+
+    /**
+     * Tests that a preview is abandoned once it has been cancelled.
+     */
+    @Test
+    public void preview_cancelled_throwsCancellationException() {
+        FindCommand command = new FindCommand(new FindShowDescriptorBuilder().withNameKeywords("o").build());
+        assertThrows(CancellationException.class, () -> command.preview(model, null, () -> true));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -1,6 +1,7 @@
 package seedu.trackermon.logic.parser;
 
 import static seedu.trackermon.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.trackermon.commons.core.Messages.MESSAGE_INVALID_INPUT;
 import static seedu.trackermon.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.trackermon.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.trackermon.logic.commands.FindCommand;
 import seedu.trackermon.model.show.ShowContainsKeywordsPredicate;
+import seedu.trackermon.testutil.FindShowDescriptorBuilder;
 
 /**
  * Contains unit tests for {@code FindCommandParser}.
@@ -37,4 +39,56 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Gone", expectedFindCommand);
         assertParseSuccess(parser, " Gone ", expectedFindCommand);
     }
+
+    /**
+     * Tests the parsing of tag arguments from the execution of {@code FindCommandParser}.
+     */
+    @Test
+    public void parse_tagArgs_returnsFindCommandUsingTagIndex() {
+        FindCommand expectedFindCommand = new FindCommand(new FindShowDescriptorBuilder()
+                .withTagKeywords("Horror", "friends").build());
+        assertParseSuccess(parser, " t/Horror t/friends", expectedFindCommand);
+
+        // different tag order -> different keywords
+        assertParseSuccess(parser, " t/friends t/Horror", new FindCommand(new FindShowDescriptorBuilder()
+                .withTagKeywords("friends", "Horror").build()));
+    }
+
+    /**
+     * Tests the parsing of name arguments from the execution of {@code FindCommandParser}.
+     */
+    @Test
+    public void parse_nameArgs_returnsFindCommandUsingNameIndex() {
+        FindCommand expectedFindCommand = new FindCommand(new FindShowDescriptorBuilder()
+                .withNameKeywords("ali", "Wonder").build());
+        assertParseSuccess(parser, " n/ali Wonder", expectedFindCommand);
+        assertParseSuccess(parser, " n/  ali   Wonder  ", expectedFindCommand);
+    }
+
+    /**
+     * Tests the parsing of comment arguments from the execution of {@code FindCommandParser}.
+     */
+    @Test
+    public void parse_commentArgs_returnsFindCommandUsingCommentIndex() {
+        FindCommand expectedFindCommand = new FindCommand(new FindShowDescriptorBuilder()
+                .withCommentKeywords("great", "plot!").build());
+        assertParseSuccess(parser, " c/great   plot! ", expectedFindCommand);
+
+        // no letters or digits
+        assertParseFailure(parser, " c/!?", String.format(MESSAGE_INVALID_INPUT,
+                FindCommandParser.MESSAGE_INVALID_COMMENT_KEYWORD));
+        assertParseFailure(parser, " c/", String.format(MESSAGE_INVALID_INPUT,
+                FindCommandParser.MESSAGE_INVALID_COMMENT_KEYWORD));
+    }
+
+    /**
+     * Tests the parsing of status and rating arguments from the execution of {@code FindCommandParser}.
+     */
+    @Test
+    public void parse_statusAndRatingArgs_returnsFindCommandUsingBitmaps() {
+        FindCommand expectedFindCommand = new FindCommand(new FindShowDescriptorBuilder()
+                .withStatuses("watching", "plan-to-watch").withRatings("4", "5").build());
+        assertParseSuccess(parser, " s/Watching PLAN-TO-WATCH r/4 05", expectedFindCommand);
+        assertParseSuccess(parser, " r/5 4 5 s/plan-to-watch watching", expectedFindCommand);
+    }
 }
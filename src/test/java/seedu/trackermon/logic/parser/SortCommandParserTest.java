@@ -2,17 +2,25 @@ package seedu.trackermon.logic.parser;
 
 import static seedu.trackermon.logic.commands.SortCommand.COMMAND_WORD;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.trackermon.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.trackermon.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.trackermon.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.trackermon.logic.parser.SortCommandParser.VALUE_ASC;
+import static seedu.trackermon.logic.parser.SortCommandParser.VALUE_DSC;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.trackermon.commons.core.Messages;
 import seedu.trackermon.logic.commands.SortCommand;
 import seedu.trackermon.model.show.NameComparator;
+import seedu.trackermon.model.show.SortSpec;
+import seedu.trackermon.model.show.SortSpec.Direction;
+import seedu.trackermon.model.show.SortSpec.Field;
 import seedu.trackermon.model.show.StatusComparator;
 
 /**
@@ -67,4 +75,45 @@ public class SortCommandParserTest {
 
     }
 
+    /**
+     * Tests the parsing of multiple fields with a sorting order from the execution of {@code SortCommandParser}.
+     */
+    @Test
+    public void parse_multipleArgsWithSortOrder_returnsSortCommand() {
+        SortSpec expectedSortSpec = new SortSpec(Arrays.asList(new SortSpec.Key(Field.RATING, Direction.DSC),
+                new SortSpec.Key(Field.NAME, Direction.ASC), new SortSpec.Key(Field.TAG, Direction.ASC)));
+        SortCommand expectedSortCommand = new SortCommand(expectedSortSpec.toComparator());
+
+        assertParseSuccess(parser, COMMAND_WORD + SPACE + PREFIX_NAME + VALUE_ASC + SPACE + PREFIX_TAG + VALUE_ASC
+                + SPACE + PREFIX_RATING + VALUE_DSC + SPACE + PREFIX_SORT_ORDER + "rating name tag",
+                expectedSortCommand);
+
+        // different case, spacing and prefix order
+        assertParseSuccess(parser, COMMAND_WORD + SPACE + PREFIX_RATING + "dsc   " + PREFIX_TAG + "Asc "
+                + PREFIX_NAME + "asc " + PREFIX_SORT_ORDER + "RATINGNAMETAG", expectedSortCommand);
+    }
+
+    /**
+     * Tests that the parsed sorting order does not depend on previous calls to {@code SortCommandParser}.
+     */
+    @Test
+    public void parse_repeatedCalls_returnsSameSortCommand() throws Exception {
+        String args = SPACE + PREFIX_STATUS + VALUE_DSC + SPACE + PREFIX_NAME + VALUE_ASC + SPACE
+                + PREFIX_SORT_ORDER + "statusname";
+        SortCommand expectedSortCommand = parser.parse(args);
+        for (int i = 0; i < 200; i++) {
+            assertParseSuccess(parser, args, expectedSortCommand);
+        }
+    }
+
+    /**
+     * Tests the parsing of a field missing from the sorting order from the execution of {@code SortCommandParser}.
+     */
+    @Test
+    public void parse_fieldMissingFromSortOrder_throwsParseException() {
+        assertParseFailure(parser, SPACE + PREFIX_NAME + VALUE_ASC + SPACE + PREFIX_STATUS + VALUE_ASC + SPACE
+                + PREFIX_SORT_ORDER + "name",
+                String.format(Messages.MESSAGE_INVALID_INPUT, SortCommandParser.MESSAGE_INVALID_SO));
+    }
+
 }
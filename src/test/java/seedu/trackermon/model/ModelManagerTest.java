@@ -6,16 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.model.Model.PREDICATE_SHOW_ALL_SHOWS;
 import static seedu.trackermon.testutil.Assert.assertThrows;
 import static seedu.trackermon.testutil.TypicalShows.ALICE_IN_WONDERLAND;
+import static seedu.trackermon.testutil.TypicalShows.GONE;
 import static seedu.trackermon.testutil.TypicalShows.HIMYM;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.trackermon.commons.core.GuiSettings;
 import seedu.trackermon.model.show.NameContainsKeywordsPredicate;
+import seedu.trackermon.model.show.Show;
 import seedu.trackermon.testutil.ShowListBuilder;
 
 /**
@@ -129,6 +132,22 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredShowList().remove(0));
     }
 
+    /**
+     * Tests that sorting the show list after a ranked find replaces the ranking, and keeps the find's filter.
+     */
+    @Test
+    public void updateSortedShowList_afterRankedFind_sortReplacesRanking() {
+        modelManager.addShow(ALICE_IN_WONDERLAND);
+        modelManager.addShow(HIMYM);
+        modelManager.addShow(GONE);
+        Comparator<Show> byName = Comparator.comparing(Show::getName);
+        modelManager.updateFilteredShowList(show -> !show.equals(GONE), byName.reversed());
+        assertEquals(Arrays.asList(HIMYM, ALICE_IN_WONDERLAND), modelManager.getFilteredShowList());
+
+        modelManager.updateSortedShowList(byName);
+        assertEquals(Arrays.asList(ALICE_IN_WONDERLAND, HIMYM), modelManager.getFilteredShowList());
+    }
+
     /**
      * Test methods to test out the interaction of {@code ModelManager} objects.
      */
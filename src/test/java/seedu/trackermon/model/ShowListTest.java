@@ -2,6 +2,7 @@ package seedu.trackermon.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.logic.commands.CommandTestUtil.VALID_TAG_HENTAI;
 import static seedu.trackermon.testutil.Assert.assertThrows;
@@ -54,6 +55,20 @@ public class ShowListTest {
         assertThrows(DuplicatedShowException.class, () -> showList.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_afterEachModification_changes() {
+        long modificationCount = showList.getModificationCount();
+        showList.addShow(ALICE_IN_WONDERLAND);
+        assertNotEquals(modificationCount, showList.getModificationCount());
+
+        modificationCount = showList.getModificationCount();
+        showList.hasShow(ALICE_IN_WONDERLAND);
+        assertEquals(modificationCount, showList.getModificationCount());
+
+        showList.setShow(ALICE_IN_WONDERLAND, new ShowBuilder(ALICE_IN_WONDERLAND).withComment().build());
+        assertNotEquals(modificationCount, showList.getModificationCount());
+    }
+
     @Test
     public void hasShow_nullShow_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> showList.hasShow(null));
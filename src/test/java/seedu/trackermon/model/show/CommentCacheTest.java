@@ -0,0 +1,74 @@
+package seedu.trackermon.model.show;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Contains unit tests for {@code CommentCache}.
+ */
+public class CommentCacheTest {
+
+    /**
+     * Tests that cached text is returned without loading it again, and that the least recently used text is
+     * evicted once the cache is over its budget.
+     */
+    @Test
+    public void get_overBudget_evictsLeastRecentlyUsed() {
+        CommentCache cache = new CommentCache(10);
+        CountingLoader first = new CountingLoader("first");
+        CountingLoader second = new CountingLoader("secnd");
+        CountingLoader third = new CountingLoader("third");
+
+        assertEquals("first", cache.get(first));
+        assertEquals("secnd", cache.get(second));
+        assertEquals("first", cache.get(first));
+        assertEquals(1, first.loadCount);
+        assertEquals(10, cache.getCachedChars());
+
+        // second is the least recently used, so it is evicted to make room for third
+        assertEquals("third", cache.get(third));
+        assertEquals("first", cache.get(first));
+        assertEquals(1, first.loadCount);
+        assertEquals("secnd", cache.get(second));
+        assertEquals(2, second.loadCount);
+        assertEquals(10, cache.getCachedChars());
+    }
+
+    /**
+     * Tests that text longer than the budget is still cached until other text is loaded.
+     */
+    @Test
+    public void get_longerThanBudget_keptUntilNextLoad() {
+        CommentCache cache = new CommentCache(3);
+        CountingLoader loader = new CountingLoader("longer than the budget");
+
+        cache.get(loader);
+        cache.get(loader);
+        assertEquals(1, loader.loadCount);
+
+        cache.get(new CountingLoader("ok"));
+        assertEquals(2, cache.getCachedChars());
+    }
+
+    /**
+     * A loader that counts how many times its text is loaded.
+     */
+    private static class CountingLoader implements Supplier<String> {
+
+        private final String text;
+        private int loadCount;
+
+        CountingLoader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String get() {
+            loadCount++;
+            return text;
+        }
+    }
+}
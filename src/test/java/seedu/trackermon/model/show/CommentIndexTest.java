@@ -0,0 +1,91 @@
+package seedu.trackermon.model.show;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.testutil.ShowBuilder;
+
+public class CommentIndexTest {
+
+    private static final Show GOOD_PLOT = new ShowBuilder().withName("Good Plot").withComment("Good plot.").build();
+    private static final Show GOOD_CAST = new ShowBuilder().withName("Good Cast")
+            .withComment("good cast, good good ending").build();
+    private static final Show NO_COMMENT = new ShowBuilder().withName("No Comment").withComment("").build();
+
+    private final CommentIndex commentIndex = new CommentIndex();
+
+    @Test
+    public void tokenize_text_returnsLowerCasedTerms() {
+        assertEquals(Arrays.asList("don", "t", "miss", "s2", "ep10"), CommentIndex.tokenize(" Don't MISS s2-ep10!!"));
+        assertEquals(Collections.emptyList(), CommentIndex.tokenize(" ?! "));
+        assertThrows(NullPointerException.class, () -> CommentIndex.tokenize(null));
+    }
+
+    @Test
+    public void getShowsMatchingAll_keywords_returnsShowsWithTermFrequencies() {
+        commentIndex.setShows(Arrays.asList(GOOD_PLOT, GOOD_CAST, NO_COMMENT));
+
+        Map<Show, Integer> matches = commentIndex.getShowsMatchingAll(Arrays.asList("GOOD"));
+        assertEquals(2, matches.size());
+        assertEquals(Integer.valueOf(1), matches.get(GOOD_PLOT));
+        assertEquals(Integer.valueOf(3), matches.get(GOOD_CAST));
+
+        matches = commentIndex.getShowsMatchingAll(Arrays.asList("good", "plot"));
+        assertEquals(1, matches.size());
+        assertEquals(Integer.valueOf(2), matches.get(GOOD_PLOT));
+
+        assertTrue(commentIndex.getShowsMatchingAll(Arrays.asList("goo")).isEmpty());
+        assertTrue(commentIndex.getShowsMatchingAll(Arrays.asList("plot", "cast")).isEmpty());
+        assertTrue(commentIndex.getShowsMatchingAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void replace_sameComment_keepsPostings() {
+        commentIndex.add(GOOD_PLOT);
+        Show renamed = new ShowBuilder(GOOD_PLOT).withName("Renamed").build();
+        commentIndex.replace(GOOD_PLOT, renamed);
+
+        Map<Show, Integer> matches = commentIndex.getShowsMatchingAll(Arrays.asList("plot"));
+        assertEquals(1, matches.size());
+        assertEquals(Integer.valueOf(1), matches.get(renamed));
+
+        Show recommented = new ShowBuilder(renamed).withComment("bad plot").build();
+        commentIndex.replace(renamed, recommented);
+        assertEquals(Collections.singleton(recommented), commentIndex.getShowsMatchingAll(Arrays.asList("bad"))
+                .keySet());
+        assertTrue(commentIndex.getShowsMatchingAll(Arrays.asList("good")).isEmpty());
+    }
+
+    @Test
+    public void remove_manyShows_compactsPostings() {
+        List<Show> shows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Show show = new ShowBuilder().withName("Show " + i).withComment("episode " + (i % 10) + " episode").build();
+            shows.add(show);
+            commentIndex.add(show);
+        }
+        for (int i = 0; i < 190; i++) {
+            commentIndex.remove(shows.get(i));
+        }
+
+        Map<Show, Integer> matches = commentIndex.getShowsMatchingAll(Arrays.asList("episode"));
+        assertEquals(10, matches.size());
+        for (int i = 190; i < 200; i++) {
+            assertEquals(Integer.valueOf(2), matches.get(shows.get(i)));
+        }
+        assertEquals(Collections.singleton(shows.get(195)),
+                commentIndex.getShowsMatchingAll(Arrays.asList("5")).keySet());
+
+        commentIndex.add(shows.get(0));
+        assertEquals(11, commentIndex.getShowsMatchingAll(Arrays.asList("episode")).size());
+    }
+}
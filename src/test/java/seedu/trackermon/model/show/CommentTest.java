@@ -1,9 +1,15 @@
 package seedu.trackermon.model.show;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -26,7 +32,96 @@ public class CommentTest {
     void testToString() {
         String test1 = "laugh1";
         Comment testComment1 = new Comment(test1);
-        assertEquals(test1, testComment1.comment);
+        assertEquals(test1, testComment1.getText());
+    }
+
+    /**
+     * Tests that a {@code Comment} from a loader has the loaded text, and equals a comment with the same text.
+     */
+    @Test
+    public void fromLoader_validLoader_loadsText() {
+        Comment comment = Comment.fromLoader(() -> "laugh");
+        assertEquals("laugh", comment.getText());
+        assertEquals(new Comment("laugh"), comment);
+        assertEquals(new Comment("laugh").hashCode(), comment.hashCode());
+        assertThrows(NullPointerException.class, () -> Comment.fromLoader(null));
+    }
+
+    /**
+     * Tests that a {@code Comment} kept outside of the heap has the same text, and equals a comment that is not.
+     */
+    @Test
+    public void constructor_longComment_keepsText() {
+        String longText = "laugh ".repeat(Comment.OFF_HEAP_LENGTH);
+        Comment comment = new Comment(longText);
+        assertEquals(longText, comment.getText());
+        assertEquals(Comment.fromLoader(() -> longText), comment);
+        assertEquals(longText.hashCode(), comment.hashCode());
+
+        String longestText = "l".repeat(Comment.MAX_LENGTH);
+        assertEquals(longestText, new Comment(longestText).getText());
+    }
+
+    /**
+     * Tests that long comments kept in the same segment, or in different segments, each keep their own text.
+     */
+    @Test
+    public void constructor_manyLongComments_keepText() {
+        int count = 2 * OffHeapText.SEGMENT_SIZE / Comment.MAX_LENGTH + 1;
+        List<String> texts = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String text = String.valueOf((char) ('a' + i % 26)).repeat(Comment.MAX_LENGTH - i);
+            texts.add(text);
+            comments.add(new Comment(text));
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(texts.get(i), comments.get(i).getUncachedText());
+        }
+    }
+
+    /**
+     * Tests that reading a comment without the cache loads it every time, while reading it with the cache does not.
+     */
+    @Test
+    public void getUncachedText_loadedComment_loadedEveryTime() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Comment comment = Comment.fromLoader(() -> {
+            loadCount.incrementAndGet();
+            return "laugh";
+        });
+
+        assertEquals("laugh", comment.getUncachedText());
+        assertEquals("laugh", comment.getUncachedText());
+        assertEquals(2, loadCount.get());
+
+        assertEquals("laugh", comment.getText());
+        assertEquals("laugh", comment.getText());
+        assertEquals(3, loadCount.get());
+        assertEquals("laugh", new Comment("laugh").getUncachedText());
+    }
+
+    /**
+     * Tests that comments from loaders are only loaded to be compared when they are not from the same loader and
+     * are not known to differ in length.
+     */
+    @Test
+    public void equals_loadedComments_loadedOnlyWhenNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loadCount.incrementAndGet();
+            return "laugh";
+        };
+        Comment comment = Comment.fromLoader(loader, 5);
+
+        assertEquals(Comment.fromLoader(loader, 5), comment);
+        assertFalse(comment.equals(new Comment("laughs")));
+        assertFalse(comment.equals(Comment.fromLoader(() -> "laughs", 6)));
+        assertEquals(0, loadCount.get());
+
+        assertEquals(new Comment("laugh"), comment);
+        assertFalse(comment.equals(new Comment("smile")));
+        assertThrows(IllegalArgumentException.class, () -> Comment.fromLoader(loader, -1));
     }
 
     @Test
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -98,5 +100,27 @@ public class NameTest {
     void testCompareTo() {
         Name testName = new Name("Another");
         assertEquals(0, testName.compareTo(new Name("ANOTHER")));
+
+        String[] names = {"abc", "ABD", "a1", "A B", "Zeta", "007", "z"};
+        for (String first : names) {
+            for (String second : names) {
+                assertEquals(Integer.signum(first.toUpperCase().compareTo(second.toUpperCase())),
+                        Integer.signum(new Name(first).compareTo(new Name(second))));
+            }
+        }
+    }
+
+    /**
+     * Tests that the key of a {@code Name} does not depend on the default locale.
+     */
+    @Test
+    void getKey_turkishLocale_lowerCasedInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("iris", new Name("IRIS").getKey());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
     }
 }
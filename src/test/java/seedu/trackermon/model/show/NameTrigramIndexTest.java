@@ -0,0 +1,65 @@
+package seedu.trackermon.model.show;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.testutil.ShowBuilder;
+
+public class NameTrigramIndexTest {
+
+    private static final Show ATTACK = new ShowBuilder().withName("Attack on Titan").build();
+    private static final Show TITANIC = new ShowBuilder().withName("Titanic").build();
+    private static final Show TIT = new ShowBuilder().withName("Tit").build();
+    private static final Show ANIA = new ShowBuilder().withName("Tan Ia").build();
+
+    private final NameTrigramIndex trigramIndex = new NameTrigramIndex();
+
+    @Test
+    public void getShowsMatchingAll_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trigramIndex.getShowsMatchingAll(null));
+    }
+
+    @Test
+    public void getShowsMatchingAll_keywords_returnsShowsContainingAllKeywords() {
+        trigramIndex.setShows(Arrays.asList(ATTACK, TITANIC, TIT, ANIA));
+
+        assertEquals(asSet(ATTACK, TITANIC, TIT), trigramIndex.getShowsMatchingAll(Arrays.asList("TIT")));
+        assertEquals(asSet(ATTACK, TITANIC), trigramIndex.getShowsMatchingAll(Arrays.asList("titan")));
+        assertEquals(asSet(ATTACK), trigramIndex.getShowsMatchingAll(Arrays.asList("titan", "on")));
+        assertEquals(asSet(TITANIC), trigramIndex.getShowsMatchingAll(Arrays.asList("tanic")));
+
+        // keywords shorter than a trigram
+        assertEquals(asSet(ATTACK, TITANIC, ANIA), trigramIndex.getShowsMatchingAll(Arrays.asList("a")));
+
+        // every trigram is present, but not next to each other
+        assertTrue(trigramIndex.getShowsMatchingAll(Arrays.asList("tania")).isEmpty());
+
+        // unknown trigram
+        assertTrue(trigramIndex.getShowsMatchingAll(Arrays.asList("xyz")).isEmpty());
+    }
+
+    @Test
+    public void getShowsMatchingAll_afterRemove_doesNotReturnRemovedShow() {
+        trigramIndex.add(ATTACK);
+        trigramIndex.add(TITANIC);
+        long version = trigramIndex.getVersion();
+        trigramIndex.remove(TITANIC);
+
+        assertTrue(trigramIndex.getVersion() != version);
+        assertEquals(asSet(ATTACK), trigramIndex.getShowsMatchingAll(Arrays.asList("tit")));
+        assertEquals(Collections.emptySet(), trigramIndex.getShowsMatchingAll(Arrays.asList("nic")));
+    }
+
+    private static Set<Show> asSet(Show... shows) {
+        return new HashSet<>(List.of(shows));
+    }
+}
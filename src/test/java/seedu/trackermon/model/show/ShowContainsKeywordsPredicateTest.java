@@ -106,4 +106,21 @@ public class ShowContainsKeywordsPredicateTest {
         predicate = new ShowContainsKeywordsPredicate(Arrays.asList("Oreimo"));
         assertFalse(predicate.test(new ShowBuilder().withName("Another").withTags("Anime").build()));
     }
+
+    /**
+     * Tests that a predicate is a refinement of another only if each keyword contains one of the other's keywords.
+     */
+    @Test
+    public void refines() {
+        ShowContainsKeywordsPredicate previous = new ShowContainsKeywordsPredicate(Arrays.asList("ano", "ere"));
+
+        // every keyword extends a previous keyword -> returns true
+        assertTrue(new ShowContainsKeywordsPredicate(Arrays.asList("Another")).refines(previous));
+        assertTrue(new ShowContainsKeywordsPredicate(Arrays.asList("anot", "THERE")).refines(previous));
+        assertTrue(previous.refines(previous));
+
+        // a keyword that does not extend a previous keyword -> returns false
+        assertFalse(new ShowContainsKeywordsPredicate(Arrays.asList("an")).refines(previous));
+        assertFalse(new ShowContainsKeywordsPredicate(Arrays.asList("another", "oreimo")).refines(previous));
+    }
 }
@@ -0,0 +1,66 @@
+package seedu.trackermon.model.show;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.model.show.SortSpec.Direction;
+import seedu.trackermon.model.show.SortSpec.Field;
+
+/**
+ * Contains unit tests for {@code SortSpec}.
+ */
+public class SortSpecTest {
+
+    @Test
+    public void toComparator_noKeys_sortsByName() {
+        assertEquals(new NameComparator(), new SortSpec(Collections.emptyList()).toComparator());
+    }
+
+    @Test
+    public void toComparator_singleAscendingKey_usesFieldComparator() {
+        SortSpec sortSpec = new SortSpec(Collections.singletonList(new SortSpec.Key(Field.STATUS, Direction.ASC)));
+        assertEquals(new StatusComparator(), sortSpec.toComparator());
+    }
+
+    @Test
+    public void toComparator_multipleKeys_sameOrderAsChainedComparators() {
+        SortSpec sortSpec = new SortSpec(Arrays.asList(new SortSpec.Key(Field.STATUS, Direction.DSC),
+                new SortSpec.Key(Field.TAG, Direction.ASC), new SortSpec.Key(Field.RATING, Direction.DSC),
+                new SortSpec.Key(Field.NAME, Direction.ASC)));
+        Comparator<Show> chainedComparator = new StatusComparator().reversed()
+                .thenComparing(new TagComparator())
+                .thenComparing(new RatingComparator().reversed())
+                .thenComparing(new NameComparator());
+
+        List<Show> expectedList = getTypicalShows();
+        expectedList.sort(chainedComparator);
+        List<Show> actualList = getTypicalShows();
+        Collections.reverse(actualList);
+        actualList.sort(sortSpec.toComparator());
+        assertEquals(expectedList, actualList);
+    }
+
+    @Test
+    public void equals() {
+        List<SortSpec.Key> keys = Arrays.asList(new SortSpec.Key(Field.NAME, Direction.DSC),
+                new SortSpec.Key(Field.RATING, Direction.ASC));
+        SortSpec sortSpec = new SortSpec(keys);
+
+        assertEquals(new SortSpec(keys), sortSpec);
+        assertEquals(new SortSpec(keys).toComparator(), sortSpec.toComparator());
+
+        // different direction -> returns false
+        SortSpec differentSortSpec = new SortSpec(Arrays.asList(new SortSpec.Key(Field.NAME, Direction.ASC),
+                new SortSpec.Key(Field.RATING, Direction.ASC)));
+        assertNotEquals(differentSortSpec, sortSpec);
+        assertNotEquals(differentSortSpec.toComparator(), sortSpec.toComparator());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.trackermon.model.show;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.testutil.ShowBuilder;
+
+public class StatusRatingIndexTest {
+
+    private final StatusRatingIndex statusRatingIndex = new StatusRatingIndex();
+
+    @Test
+    public void getPositionsMatching_afterRandomMutations_consistentWithScan() {
+        Random random = new Random(2103);
+        Status[] statuses = Status.values();
+        List<Show> shows = new ArrayList<>();
+        List<Set<Status>> statusQueries = List.of(Collections.emptySet(), EnumSet.of(Status.WATCHING),
+                EnumSet.of(Status.COMPLETED, Status.PLAN_TO_WATCH));
+        List<Set<Rating>> ratingQueries = List.of(Collections.emptySet(), Set.of(new Rating(0)),
+                Set.of(new Rating(4), new Rating(5)));
+
+        for (int step = 0; step < 1000; step++) {
+            Show show = new ShowBuilder().withName("Show " + step)
+                    .withStatus(statuses[random.nextInt(statuses.length)].toString())
+                    .withRating(Integer.toString(random.nextInt(Rating.MAX_RATING + 1))).build();
+            int operation = shows.isEmpty() ? 0 : random.nextInt(4);
+            if (operation < 2) {
+                shows.add(show);
+                statusRatingIndex.add(show);
+            } else if (operation == 2) {
+                int index = random.nextInt(shows.size());
+                statusRatingIndex.set(index, shows.get(index), show);
+                shows.set(index, show);
+            } else {
+                int index = random.nextInt(shows.size());
+                shows.remove(index);
+                statusRatingIndex.remove(index);
+            }
+
+            for (Set<Status> statusQuery : statusQueries) {
+                for (Set<Rating> ratingQuery : ratingQueries) {
+                    BitSet expected = new BitSet();
+                    for (int i = 0; i < shows.size(); i++) {
+                        Show candidate = shows.get(i);
+                        if ((statusQuery.isEmpty() || statusQuery.contains(candidate.getStatus()))
+                                && (ratingQuery.isEmpty() || ratingQuery.contains(candidate.getRating()))) {
+                            expected.set(i);
+                        }
+                    }
+                    assertEquals(expected, statusRatingIndex.getPositionsMatching(statusQuery, ratingQuery));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void setShows_replacesPositions() {
+        Show watching = new ShowBuilder().withName("Watching").withStatus("watching").withRating("3").build();
+        Show completed = new ShowBuilder().withName("Completed").withStatus("completed").withRating("3").build();
+        statusRatingIndex.add(watching);
+        statusRatingIndex.setShows(List.of(completed, watching));
+
+        BitSet expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, statusRatingIndex.getPositionsMatching(EnumSet.of(Status.WATCHING),
+                Collections.emptySet()));
+        expected.set(0);
+        assertEquals(expected, statusRatingIndex.getPositionsMatching(Collections.emptySet(),
+                Set.of(new Rating(3))));
+    }
+}
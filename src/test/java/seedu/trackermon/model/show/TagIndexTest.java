@@ -0,0 +1,77 @@
+package seedu.trackermon.model.show;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.testutil.ShowBuilder;
+
+public class TagIndexTest {
+
+    private static final Show HORROR_MOVIE = new ShowBuilder().withName("Alien").withTags("Horror", "movie").build();
+    private static final Show HORRORS = new ShowBuilder().withName("Hill House").withTags("horrors").build();
+    private static final Show MOVIES = new ShowBuilder().withName("Up").withTags("movies").build();
+    private static final Show UNTAGGED = new ShowBuilder().withName("Friends").withTags().build();
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getShowsMatchingAll_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getShowsMatchingAll(null));
+    }
+
+    @Test
+    public void getShowsMatchingAll_keywords_returnsShowsWithTagsContainingAllKeywords() {
+        tagIndex.setShows(Arrays.asList(HORROR_MOVIE, HORRORS, MOVIES, UNTAGGED));
+
+        // complete tag names also match longer tags containing them
+        assertEquals(asSet(HORROR_MOVIE, HORRORS), tagIndex.getShowsMatchingAll(Arrays.asList("horror")));
+        assertEquals(asSet(HORROR_MOVIE, MOVIES), tagIndex.getShowsMatchingAll(Arrays.asList("movie")));
+
+        // substrings of tag names, ignoring case and surrounding whitespace
+        assertEquals(asSet(HORROR_MOVIE, HORRORS), tagIndex.getShowsMatchingAll(Arrays.asList(" ROR ")));
+        assertEquals(asSet(HORRORS, MOVIES), tagIndex.getShowsMatchingAll(Arrays.asList("s")));
+
+        // every keyword must be matched, by the same tag or by different tags
+        assertEquals(asSet(HORROR_MOVIE), tagIndex.getShowsMatchingAll(Arrays.asList("horror", "movie")));
+        assertEquals(asSet(HORRORS), tagIndex.getShowsMatchingAll(Arrays.asList("horror", "s")));
+
+        // unknown keyword, or no keywords
+        assertTrue(tagIndex.getShowsMatchingAll(Arrays.asList("horror", "comedy")).isEmpty());
+        assertTrue(tagIndex.getShowsMatchingAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void estimateMatches_keywords_atLeastNumberOfMatches() {
+        tagIndex.setShows(Arrays.asList(HORROR_MOVIE, HORRORS, MOVIES, UNTAGGED));
+
+        assertEquals(2, tagIndex.estimateMatches(Arrays.asList("horror")));
+        assertEquals(2, tagIndex.estimateMatches(Arrays.asList("horror", "movie")));
+        assertEquals(0, tagIndex.estimateMatches(Arrays.asList("horror", "comedy")));
+        assertEquals(0, tagIndex.estimateMatches(Collections.emptyList()));
+    }
+
+    @Test
+    public void getShowsMatchingAll_afterRemove_doesNotReturnRemovedShow() {
+        tagIndex.add(HORROR_MOVIE);
+        tagIndex.add(HORRORS);
+        long version = tagIndex.getVersion();
+        tagIndex.remove(HORRORS);
+
+        assertTrue(tagIndex.getVersion() != version);
+        assertEquals(asSet(HORROR_MOVIE), tagIndex.getShowsMatchingAll(Arrays.asList("horror")));
+        assertEquals(Collections.emptySet(), tagIndex.getShowsMatchingAll(Arrays.asList("horrors")));
+    }
+
+    private static Set<Show> asSet(Show... shows) {
+        return new HashSet<>(List.of(shows));
+    }
+}
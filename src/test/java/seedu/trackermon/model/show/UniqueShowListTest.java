@@ -2,6 +2,9 @@ package seedu.trackermon.model.show;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.trackermon.logic.commands.CommandTestUtil.VALID_STATUS_WATCHING;
 import static seedu.trackermon.logic.commands.CommandTestUtil.VALID_TAG_MOVIE;
@@ -10,14 +13,20 @@ import static seedu.trackermon.testutil.Assert.assertThrows;
 import static seedu.trackermon.testutil.TypicalShows.HANCOCK;
 import static seedu.trackermon.testutil.TypicalShows.WEATHERING_WITH_YOU;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.trackermon.model.show.exceptions.DuplicatedShowException;
 import seedu.trackermon.model.show.exceptions.ShowNotFoundException;
+import seedu.trackermon.model.show.query.FindClause;
+import seedu.trackermon.model.show.query.FindQuery;
 import seedu.trackermon.testutil.ShowBuilder;
 
 public class UniqueShowListTest {
@@ -48,6 +57,13 @@ public class UniqueShowListTest {
         assertTrue(uniqueShowList.contains(editedMe));
     }
 
+    @Test
+    public void contains_showWithDifferentCaseInList_returnsTrue() {
+        uniqueShowList.add(HANCOCK);
+        Show upperCaseHancock = new ShowBuilder(HANCOCK).withName(HANCOCK.getName().name.toUpperCase()).build();
+        assertTrue(uniqueShowList.contains(upperCaseHancock));
+    }
+
     @Test
     public void add_nullShow_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueShowList.add(null));
@@ -120,6 +136,14 @@ public class UniqueShowListTest {
         assertThrows(ShowNotFoundException.class, () -> uniqueShowList.remove(HANCOCK));
     }
 
+    @Test
+    public void remove_showWithSameIdentityButDifferentData_throwsShowNotFoundException() {
+        uniqueShowList.add(HANCOCK);
+        Show editedHancock = new ShowBuilder(HANCOCK).withStatus(VALID_STATUS_WATCHING).withComment().build();
+        assertThrows(ShowNotFoundException.class, () -> uniqueShowList.remove(editedHancock));
+        assertTrue(uniqueShowList.contains(HANCOCK));
+    }
+
     @Test
     public void remove_existingShow_removesShow() {
         uniqueShowList.add(HANCOCK);
@@ -163,9 +187,177 @@ public class UniqueShowListTest {
         assertThrows(DuplicatedShowException.class, () -> uniqueShowList.setShows(listWithDuplicateShows));
     }
 
+    @Test
+    public void setShows_listWithSeveralDuplicateShows_reportsEveryDuplicateAndKeepsList() {
+        uniqueShowList.add(WEATHERING_WITH_YOU);
+        Show upperCaseHancock = new ShowBuilder(HANCOCK).withName(HANCOCK.getName().name.toUpperCase()).build();
+        List<Show> listWithDuplicateShows = Arrays.asList(HANCOCK, WEATHERING_WITH_YOU, upperCaseHancock,
+                WEATHERING_WITH_YOU, HANCOCK);
+
+        String expectedMessage = new DuplicatedShowException(Arrays.asList(HANCOCK.getName().name,
+                WEATHERING_WITH_YOU.getName().name)).getMessage();
+        assertThrows(DuplicatedShowException.class, expectedMessage, ()
+            -> uniqueShowList.setShows(listWithDuplicateShows));
+
+        UniqueShowList expectedUniqueShowList = new UniqueShowList();
+        expectedUniqueShowList.add(WEATHERING_WITH_YOU);
+        assertEquals(expectedUniqueShowList, uniqueShowList);
+        assertFalse(uniqueShowList.contains(HANCOCK));
+    }
+
+    @Test
+    public void sort_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueShowList.sort(null));
+    }
+
+    @Test
+    public void sort_validComparator_sortsInPlaceWithSingleChange() {
+        uniqueShowList.setShows(Arrays.asList(WEATHERING_WITH_YOU, HANCOCK));
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueShowList.asUnmodifiableObservableList().addListener((ListChangeListener<Show>) change ->
+                changeCount.add(1));
+
+        uniqueShowList.sort(new NameComparator());
+
+        assertEquals(Arrays.asList(HANCOCK, WEATHERING_WITH_YOU), uniqueShowList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+        assertTrue(uniqueShowList.contains(HANCOCK));
+        assertTrue(uniqueShowList.contains(WEATHERING_WITH_YOU));
+    }
+
+    @Test
+    public void getLastChange_changesMade_followedInOrder() {
+        ShowListChange start = uniqueShowList.getLastChange();
+        Show editedHancock = new ShowBuilder(HANCOCK).withStatus(VALID_STATUS_WATCHING).build();
+        uniqueShowList.add(HANCOCK);
+        uniqueShowList.add(WEATHERING_WITH_YOU);
+        uniqueShowList.setShow(HANCOCK, editedHancock);
+        uniqueShowList.remove(WEATHERING_WITH_YOU);
+        uniqueShowList.sort(new NameComparator());
+
+        List<String> changes = new ArrayList<>();
+        for (ShowListChange change = start.getNext(); change != null; change = change.getNext()) {
+            changes.add(change.getType() + " " + change.getIndex());
+        }
+        assertEquals(Arrays.asList("ADD 0", "ADD 1", "SET 0", "REMOVE 1", "RESET -1"), changes);
+        assertEquals(editedHancock, start.getNext().getNext().getNext().getShow());
+        assertSame(uniqueShowList.getLastChange(), start.getNext().getNext().getNext().getNext().getNext());
+    }
+
+    @Test
+    public void continueChanges_bothListsChanged_onlyFirstChangeFollowed() {
+        uniqueShowList.add(HANCOCK);
+        UniqueShowList copy = new UniqueShowList();
+        copy.setShows(uniqueShowList);
+        ShowListChange copied = uniqueShowList.getLastChange();
+        copy.continueChanges(copied);
+
+        copy.add(WEATHERING_WITH_YOU);
+        uniqueShowList.remove(HANCOCK);
+
+        assertSame(copy.getLastChange(), copied.getNext());
+        assertNotSame(uniqueShowList.getLastChange(), copied.getNext());
+        assertNull(uniqueShowList.getLastChange().getNext());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueShowList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void contains_afterRandomMutations_consistentWithInternalList() {
+        Random random = new Random(2103);
+        List<Show> candidates = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            candidates.add(new ShowBuilder().withName("Show " + i).build());
+            candidates.add(new ShowBuilder().withName("SHOW " + i).withStatus(VALID_STATUS_WATCHING).build());
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            Show show = candidates.get(random.nextInt(candidates.size()));
+            List<Show> current = uniqueShowList.asUnmodifiableObservableList();
+            switch (random.nextInt(5)) {
+            case 0:
+                if (!uniqueShowList.contains(show)) {
+                    uniqueShowList.add(show);
+                }
+                break;
+            case 1:
+                if (!current.isEmpty()) {
+                    uniqueShowList.remove(current.get(random.nextInt(current.size())));
+                }
+                break;
+            case 2:
+                if (!current.isEmpty()) {
+                    Show target = current.get(random.nextInt(current.size()));
+                    if (target.isSameShow(show) || !uniqueShowList.contains(show)) {
+                        uniqueShowList.setShow(target, show);
+                    }
+                }
+                break;
+            case 3:
+                List<Show> replacement = new ArrayList<>(current);
+                Collections.shuffle(replacement, random);
+                uniqueShowList.setShows(replacement.subList(0, replacement.size() / 2));
+                break;
+            default:
+                UniqueShowList other = new UniqueShowList();
+                other.add(show);
+                uniqueShowList.setShows(other);
+                break;
+            }
+
+            for (Show candidate : candidates) {
+                boolean isInList = uniqueShowList.asUnmodifiableObservableList().stream()
+                        .anyMatch(candidate::isSameShow);
+                assertEquals(isInList, uniqueShowList.contains(candidate));
+            }
+        }
+    }
+
+    @Test
+    public void getFindQueryPredicate_afterRandomMutations_consistentWithTagScan() {
+        Random random = new Random(2103);
+        String[] tagNames = {"action", "reaction", "drama", "melodrama", "comedy", "anime"};
+        List<Show> candidates = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            candidates.add(new ShowBuilder().withName("Show " + i)
+                    .withTags(tagNames[random.nextInt(tagNames.length)], tagNames[random.nextInt(tagNames.length)])
+                    .build());
+        }
+        List<List<String>> queries = Arrays.asList(Arrays.asList("action"), Arrays.asList("DRAMA", "act"),
+                Arrays.asList("anime", "comedy"), Arrays.asList("ma"), Arrays.asList("thriller"));
+        List<Predicate<Show>> tagsPredicates = new ArrayList<>();
+        for (List<String> query : queries) {
+            tagsPredicates.add(uniqueShowList.getFindQueryPredicate(
+                    new FindQuery(Arrays.asList(new FindClause(FindClause.Field.TAG, query)))));
+        }
+
+        for (int step = 0; step < 500; step++) {
+            Show show = candidates.get(random.nextInt(candidates.size()));
+            List<Show> current = uniqueShowList.asUnmodifiableObservableList();
+            if (uniqueShowList.contains(show)) {
+                Show stored = current.stream().filter(show::isSameShow).findFirst().get();
+                if (random.nextBoolean()) {
+                    uniqueShowList.remove(stored);
+                } else {
+                    uniqueShowList.setShow(stored, new ShowBuilder(stored)
+                            .withTags(tagNames[random.nextInt(tagNames.length)]).build());
+                }
+            } else {
+                uniqueShowList.add(show);
+            }
+
+            for (int i = 0; i < queries.size(); i++) {
+                Predicate<Show> scanPredicate = queries.get(i).stream()
+                        .map(keyword -> (Predicate<Show>) new TagsContainsKeywordsPredicate(Arrays.asList(keyword)))
+                        .reduce(Predicate::and).get();
+                for (Show candidate : current) {
+                    assertEquals(scanPredicate.test(candidate), tagsPredicates.get(i).test(candidate));
+                }
+            }
+        }
+    }
 }
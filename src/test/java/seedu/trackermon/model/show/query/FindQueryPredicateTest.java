@@ -0,0 +1,51 @@
+package seedu.trackermon.model.show.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.model.show.UniqueShowList;
+
+/**
+ * Contains tests for {@code FindQueryPredicate}.
+ */
+public class FindQueryPredicateTest {
+
+    private static final FindQuery NAME_QUERY = new FindQuery(Arrays.asList(
+            new FindClause(FindClause.Field.NAME, Arrays.asList("friends"))));
+    private static final FindQuery TAG_QUERY = new FindQuery(Arrays.asList(
+            new FindClause(FindClause.Field.TAG, Arrays.asList("horror"))));
+
+    /**
+     * Tests whether two FindQueryPredicates are equal, and that equal predicates have the same hash code.
+     */
+    @Test
+    public void equals() {
+        UniqueShowList shows = new UniqueShowList();
+        FindQueryPredicate firstPredicate = shows.getFindQueryPredicate(NAME_QUERY);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same query over the same shows -> returns true
+        FindQueryPredicate firstPredicateCopy = shows.getFindQueryPredicate(NAME_QUERY);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstPredicate.equals(shows.getFindQueryPredicate(TAG_QUERY)));
+
+        // same query over different shows -> returns false
+        assertFalse(firstPredicate.equals(new UniqueShowList().getFindQueryPredicate(NAME_QUERY)));
+    }
+}
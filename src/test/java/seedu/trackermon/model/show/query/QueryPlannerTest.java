@@ -0,0 +1,105 @@
+package seedu.trackermon.model.show.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackermon.testutil.TypicalShows.FRIENDS;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.model.show.CommentIndex;
+import seedu.trackermon.model.show.NameTrigramIndex;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.model.show.StatusRatingIndex;
+import seedu.trackermon.model.show.TagIndex;
+import seedu.trackermon.model.show.query.QueryPlan.AccessMethod;
+
+public class QueryPlannerTest {
+
+    private static final FindClause NAME_FRIENDS = new FindClause(FindClause.Field.NAME, Arrays.asList("friends"));
+    private static final FindClause STATUS_WATCHING =
+            new FindClause(FindClause.Field.STATUS, Arrays.asList("watching"));
+    private static final FindClause COMMENT_GOOD = new FindClause(FindClause.Field.COMMENT, Arrays.asList("good"));
+
+    private final List<Show> shows = new ArrayList<>(getTypicalShows());
+    private final QueryPlanner queryPlanner = createPlanner(shows);
+
+    @Test
+    public void plan_clausesOrderedByEstimatedMatches() {
+        QueryPlan plan = queryPlanner.plan(new FindQuery(Arrays.asList(STATUS_WATCHING, NAME_FRIENDS)));
+
+        List<QueryPlan.Stage> stages = plan.getStages();
+        assertEquals(NAME_FRIENDS, stages.get(0).getClause());
+        assertEquals(1, stages.get(0).getEstimatedMatches());
+        assertEquals(STATUS_WATCHING, stages.get(1).getClause());
+        assertEquals(4, stages.get(1).getEstimatedMatches());
+    }
+
+    @Test
+    public void plan_fewCandidates_scansCheapClauseAndLooksUpExpensiveClause() {
+        QueryPlan plan = queryPlanner.plan(new FindQuery(Arrays.asList(COMMENT_GOOD, STATUS_WATCHING, NAME_FRIENDS)));
+
+        List<QueryPlan.Stage> stages = plan.getStages();
+        assertEquals(AccessMethod.INDEX, stages.get(0).getAccessMethod());
+        assertEquals(COMMENT_GOOD, stages.get(1).getClause());
+        assertEquals(AccessMethod.INDEX, stages.get(1).getAccessMethod());
+        assertEquals(STATUS_WATCHING, stages.get(2).getClause());
+        assertEquals(AccessMethod.SCAN, stages.get(2).getAccessMethod());
+        assertEquals(Set.of(FRIENDS), Set.copyOf(plan.execute()));
+    }
+
+    @Test
+    public void explain_afterExecute_describesEachStage() {
+        QueryPlan plan = queryPlanner.plan(new FindQuery(Arrays.asList(STATUS_WATCHING, NAME_FRIENDS)));
+        assertTrue(plan.explain().endsWith("not run"));
+
+        plan.execute();
+        String explanation = plan.explain();
+        assertTrue(explanation.startsWith(
+                "Plan for (status is any of [watching] AND name contains all of [friends]):"));
+        assertTrue(explanation.contains("\n1. INDEX name contains all of [friends] (estimated 1) -> 1 shows in "));
+        assertTrue(explanation.contains("\n2. SCAN status is any of [watching] (estimated 4) -> 1 shows in "));
+    }
+
+    @Test
+    public void execute_everyCombinationOfClauses_consistentWithScan() {
+        List<FindClause> clauses = Arrays.asList(NAME_FRIENDS, STATUS_WATCHING, COMMENT_GOOD,
+                new FindClause(FindClause.Field.NAME, Arrays.asList("o")),
+                new FindClause(FindClause.Field.TAG, Arrays.asList("horror", "friend")),
+                new FindClause(FindClause.Field.RATING, Arrays.asList("0", "5")),
+                new FindClause(FindClause.Field.COMMENT, Arrays.asList("bad!")));
+
+        for (int mask = 0; mask < 1 << clauses.size(); mask++) {
+            List<FindClause> queryClauses = new ArrayList<>();
+            Predicate<Show> scanPredicate = show -> true;
+            for (int i = 0; i < clauses.size(); i++) {
+                if ((mask & 1 << i) != 0) {
+                    queryClauses.add(clauses.get(i));
+                    scanPredicate = scanPredicate.and(clauses.get(i).toScanPredicate());
+                }
+            }
+            FindQueryPredicate predicate = new FindQueryPredicate(queryPlanner, new FindQuery(queryClauses));
+            for (Show show : shows) {
+                assertEquals(scanPredicate.test(show), predicate.test(show));
+            }
+        }
+    }
+
+    private static QueryPlanner createPlanner(List<Show> shows) {
+        NameTrigramIndex trigramIndex = new NameTrigramIndex();
+        TagIndex tagIndex = new TagIndex();
+        StatusRatingIndex statusRatingIndex = new StatusRatingIndex();
+        CommentIndex commentIndex = new CommentIndex();
+        trigramIndex.setShows(shows);
+        tagIndex.setShows(shows);
+        statusRatingIndex.setShows(shows);
+        commentIndex.setShows(shows);
+        return new QueryPlanner(shows, trigramIndex, tagIndex, statusRatingIndex, commentIndex);
+    }
+}
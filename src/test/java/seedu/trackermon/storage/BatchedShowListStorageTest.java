@@ -0,0 +1,116 @@
+package seedu.trackermon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+import static seedu.trackermon.testutil.TypicalShows.ALICE_IN_WONDERLAND;
+import static seedu.trackermon.testutil.TypicalShows.HIMYM;
+import static seedu.trackermon.testutil.TypicalShows.WEATHERING_WITH_YOU;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.model.ReadOnlyShowList;
+import seedu.trackermon.model.ShowList;
+
+/**
+ * Contains tests for {@code BatchedShowListStorage}.
+ */
+public class BatchedShowListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that saves are not written until the storage is flushed, and are then written once as the latest
+     * show list.
+     */
+    @Test
+    public void saveShowList_noSaveInterval_writtenOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        BatchedShowListStorage storage = new BatchedShowListStorage(new JsonShowListStorage(filePath), 0);
+        ShowList showList = getTypicalShowList();
+
+        storage.saveShowList(showList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+        assertFalse(Files.exists(filePath));
+
+        storage.flushShowList();
+        assertEquals(showList, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that the show list is written on every {@code saveInterval}th save, and that reading writes any
+     * deferred saves first.
+     */
+    @Test
+    public void saveShowList_saveInterval_writtenEveryInterval() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JsonShowListStorage jsonStorage = new JsonShowListStorage(filePath);
+        BatchedShowListStorage storage = new BatchedShowListStorage(jsonStorage, 2);
+        ShowList showList = getTypicalShowList();
+
+        storage.saveShowList(showList);
+        assertFalse(Files.exists(filePath));
+        ShowList secondSave = new ShowList(showList);
+        storage.saveShowList(showList);
+        assertEquals(secondSave, new ShowList(jsonStorage.readShowList().get()));
+
+        showList.removeShow(HIMYM);
+        storage.saveShowList(showList);
+        assertEquals(secondSave, new ShowList(jsonStorage.readShowList().get()));
+        assertEquals(showList, new ShowList(storage.readShowList().get()));
+    }
+
+    /**
+     * Tests that a show list that failed to be written is written again by the next flush.
+     */
+    @Test
+    public void flushShowList_writeFailed_retriedOnNextFlush() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        FailingOnceShowListStorageStub stub = new FailingOnceShowListStorageStub(filePath);
+        BatchedShowListStorage storage = new BatchedShowListStorage(stub, 0);
+        ShowList showList = new ShowList();
+        showList.addShow(ALICE_IN_WONDERLAND);
+
+        storage.saveShowList(showList);
+        assertThrows(IOException.class, storage::flushShowList);
+        storage.flushShowList();
+        assertEquals(showList, new ShowList(stub.readShowList().get()));
+    }
+
+    /**
+     * Tests that a negative save interval is rejected.
+     */
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchedShowListStorage(
+                new JsonShowListStorage(testFolder.resolve("TempShowList.json")), -1));
+    }
+
+    /**
+     * A stub class that throws an {@code IOException} the first time it is saved to.
+     */
+    private static class FailingOnceShowListStorageStub extends JsonShowListStorage {
+        private boolean hasFailed;
+
+        private FailingOnceShowListStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("dummy exception");
+            }
+            super.saveShowList(showList, filePath);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.trackermon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+import static seedu.trackermon.testutil.TypicalShows.HIMYM;
+import static seedu.trackermon.testutil.TypicalShows.WEATHERING_WITH_YOU;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Comment;
+import seedu.trackermon.testutil.ShowBuilder;
+
+/**
+ * Contains integration tests (interaction with the Storage) for {@code BinaryShowListStorage}.
+ */
+public class BinaryShowListStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableShowListTest");
+    private static final Path TYPICAL_SHOWS_FILE = TEST_DATA_FOLDER.resolve("typicalShowsShowList.json");
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that a saved show list is read back unchanged, and is smaller than the same show list in json.
+     */
+    @Test
+    public void readAndSaveShowList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.bin");
+        BinaryShowListStorage storage = new BinaryShowListStorage(filePath);
+        ShowList original = getTypicalShowList();
+
+        storage.saveShowList(original);
+        assertEquals(original, new ShowList(storage.readShowList().get()));
+
+        original.addShow(WEATHERING_WITH_YOU);
+        original.setShow(HIMYM, new ShowBuilder(HIMYM).withStatus("plan-to-watch").withRating("5").build());
+        storage.saveShowList(original);
+        assertEquals(original, new ShowList(storage.readShowList().get()));
+
+        Path jsonFilePath = testFolder.resolve("TempShowList.json");
+        new JsonShowListStorage(jsonFilePath).saveShowList(original);
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    /**
+     * Tests that a show list read from a memory-mapped data file is unchanged, including after the data file has
+     * been replaced by a save, and that a show list read from another file is unchanged after that file has been
+     * written over, since only the data file is mapped.
+     */
+    @Test
+    public void readShowList_mapped_success() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.bin");
+        BinaryShowListStorage storage = new BinaryShowListStorage(filePath, 1, true);
+        ShowList original = getTypicalShowList();
+        // Enough text that the comments of the first shows are no longer cached once the list has been read
+        original.setShows(original.getShows().stream()
+                .map(show -> new ShowBuilder(show).withComment("l".repeat(Comment.MAX_LENGTH)).build())
+                .collect(Collectors.toList()));
+        storage.saveShowList(original);
+
+        Path otherFilePath = testFolder.resolve("OtherShowList.bin");
+        Files.copy(filePath, otherFilePath);
+        ShowList read = new ShowList(storage.readShowList(otherFilePath).get());
+        Files.write(otherFilePath, new byte[0]);
+        assertEquals(original, read);
+
+        ShowList mapped = new ShowList(storage.readShowList().get());
+        storage.saveShowList(new ShowList());
+        assertEquals(original, mapped);
+        assertEquals(new ShowList(), new ShowList(storage.readShowList().get()));
+
+        // Json data files are not mapped, but are still read
+        assertEquals(getTypicalShowList(),
+                new ShowList(new BinaryShowListStorage(TYPICAL_SHOWS_FILE, 0, true).readShowList().get()));
+    }
+
+    /**
+     * Tests that a {@code DataConversionException} is thrown for a memory-mapped data file that ends early, or has
+     * a comment that is not ASCII.
+     */
+    @Test
+    public void readShowList_mappedInvalidFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.bin");
+        BinaryShowListStorage storage = new BinaryShowListStorage(filePath, 0, true);
+
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            0, 1, 4, 'S', 'h', 'o', 'w', 0, 0, 2, 'o'});
+        assertThrows(DataConversionException.class, storage::readShowList);
+
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            0, 1, 4, 'S', 'h', 'o', 'w', 0, 0, 2, 'o', (byte) 0xC3});
+        assertThrows(DataConversionException.class, storage::readShowList);
+
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            0, 1, 4, 'S', 'h', 'o', 'w', 0, 0, 2, 'o', 'k'});
+        assertEquals(new Comment("ok"), storage.readShowList().get().getShows().get(0).getComment());
+    }
+
+    /**
+     * Tests that a json data file is read as json.
+     */
+    @Test
+    public void readShowList_jsonFile_success() throws Exception {
+        assertEquals(getTypicalShowList(),
+                new ShowList(new BinaryShowListStorage(TYPICAL_SHOWS_FILE).readShowList().get()));
+    }
+
+    /**
+     * Tests that a {@code ReadOnlyShowList} is not obtained from a non-existent file.
+     */
+    @Test
+    public void readShowList_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryShowListStorage(testFolder.resolve("NonExistentFile.bin")).readShowList().isPresent());
+    }
+
+    /**
+     * Tests that a {@code DataConversionException} is thrown for a binary data file that ends early,
+     * has an unsupported version, or contains values that violate the data constraints.
+     */
+    @Test
+    public void readShowList_invalidBinaryFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.bin");
+        BinaryShowListStorage storage = new BinaryShowListStorage(filePath);
+        storage.saveShowList(getTypicalShowList());
+        byte[] valid = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(valid, valid.length - 1));
+        assertThrows(DataConversionException.class, storage::readShowList);
+
+        byte[] unsupportedVersion = valid.clone();
+        unsupportedVersion[BinaryShowListWriter.MAGIC.length] = BinaryShowListWriter.VERSION + 1;
+        Files.write(filePath, unsupportedVersion);
+        assertThrows(DataConversionException.class, storage::readShowList);
+
+        // A tag table of one tag, and one show with an out of range rating
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            1, 3, 't', 'a', 'g', 1, 4, 'S', 'h', 'o', 'w', 7, 1, 0, 0});
+        assertThrows(DataConversionException.class, storage::readShowList);
+
+        // The same show with a valid rating, but a tag index outside the tag table
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            1, 3, 't', 'a', 'g', 1, 4, 'S', 'h', 'o', 'w', 5, 1, 1, 0});
+        assertThrows(DataConversionException.class, storage::readShowList);
+
+        // The same show with a valid rating and tag index
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            1, 3, 't', 'a', 'g', 1, 4, 'S', 'h', 'o', 'w', 5, 1, 0, 0});
+        assertEquals(1, storage.readShowList().get().getShows().size());
+    }
+
+    /**
+     * Tests that a {@code DataConversionException} is thrown for a binary data file with duplicate shows.
+     */
+    @Test
+    public void readShowList_duplicateShows_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.bin");
+        Files.write(filePath, new byte[] {'T', 'R', 'K', 'M', BinaryShowListWriter.VERSION,
+            0, 2, 4, 'S', 'h', 'o', 'w', 0, 0, 0, 4, 'S', 'h', 'o', 'w', 0, 0, 0});
+        assertThrows(DataConversionException.class, () -> new BinaryShowListStorage(filePath).readShowList());
+    }
+
+    /**
+     * Tests that the previous version of the data file is read when the data file cannot be read.
+     */
+    @Test
+    public void readLatestValidShowList_invalidDataFile_readsPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.bin");
+        BinaryShowListStorage storage = new BinaryShowListStorage(filePath, 1, false);
+        ShowList original = getTypicalShowList();
+        storage.saveShowList(original);
+        storage.saveShowList(new ShowList());
+        Files.write(filePath, BinaryShowListWriter.MAGIC);
+
+        assertEquals(original, new ShowList(storage.readLatestValidShowList().get()));
+    }
+}
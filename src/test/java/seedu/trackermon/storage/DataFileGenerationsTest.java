@@ -0,0 +1,167 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.commons.util.FileUtil;
+
+/**
+ * Contains tests for {@code DataFileGenerations}.
+ */
+public class DataFileGenerationsTest {
+
+    private static final String INVALID_CONTENT_PREFIX = "invalid";
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that writing without generations replaces the file and leaves no other files behind.
+     */
+    @Test
+    public void write_noGenerations_replacesFile() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(0);
+
+        write(generations, filePath, "first");
+        write(generations, filePath, "second");
+
+        assertEquals("second", FileUtil.readFromFile(filePath));
+        assertEquals(1, countFiles(filePath.getParent()));
+    }
+
+    /**
+     * Tests that each write moves the previous versions one generation back, dropping the oldest one.
+     */
+    @Test
+    public void write_twoGenerations_keepsTwoPreviousVersions() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(2);
+
+        write(generations, filePath, "first");
+        write(generations, filePath, "second");
+        write(generations, filePath, "third");
+        write(generations, filePath, "fourth");
+
+        assertEquals("fourth", FileUtil.readFromFile(filePath));
+        assertEquals("third", FileUtil.readFromFile(DataFileGenerations.getGenerationPath(filePath, 1)));
+        assertEquals("second", FileUtil.readFromFile(DataFileGenerations.getGenerationPath(filePath, 2)));
+        assertFalse(Files.exists(DataFileGenerations.getGenerationPath(filePath, 3)));
+    }
+
+    /**
+     * Tests that the file and its generations are unchanged if writing fails partway.
+     */
+    @Test
+    public void write_writerFails_fileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(1);
+        write(generations, filePath, "first");
+
+        assertThrows(IOException.class, () -> generations.write(filePath, outputStream -> {
+            outputStream.write("partial".getBytes(UTF_8));
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("first", FileUtil.readFromFile(filePath));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    /**
+     * Tests that the file itself is read if it can be read.
+     */
+    @Test
+    public void read_validFile_readsFile() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(1);
+        write(generations, filePath, "first");
+        write(generations, filePath, "second");
+
+        assertEquals(Optional.of("second"), generations.read(filePath, DataFileGenerationsTest::readContent));
+    }
+
+    /**
+     * Tests that the newest generation that can be read is read if the file cannot be read.
+     */
+    @Test
+    public void read_invalidFile_readsNewestValidGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(2);
+        write(generations, filePath, "first");
+        write(generations, filePath, INVALID_CONTENT_PREFIX + " second");
+        write(generations, filePath, INVALID_CONTENT_PREFIX + " third");
+
+        assertEquals(Optional.of("first"), generations.read(filePath, DataFileGenerationsTest::readContent));
+    }
+
+    /**
+     * Tests that the first generation is read if the file is missing.
+     */
+    @Test
+    public void read_missingFile_readsFirstGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(1);
+        write(generations, filePath, "first");
+        write(generations, filePath, "second");
+        Files.delete(filePath);
+
+        assertEquals(Optional.of("first"), generations.read(filePath, DataFileGenerationsTest::readContent));
+    }
+
+    /**
+     * Tests that the exception of the file is thrown if neither the file nor any generation can be read.
+     */
+    @Test
+    public void read_noValidVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        DataFileGenerations generations = new DataFileGenerations(1);
+        write(generations, filePath, INVALID_CONTENT_PREFIX + " first");
+        write(generations, filePath, INVALID_CONTENT_PREFIX + " second");
+
+        assertThrows(DataConversionException.class, "java.lang.Exception: invalid second", () ->
+                generations.read(filePath, DataFileGenerationsTest::readContent));
+    }
+
+    /**
+     * Tests that an empty {@code Optional} is returned if neither the file nor any generation exists.
+     */
+    @Test
+    public void read_noVersions_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempFile.json");
+        assertFalse(new DataFileGenerations(1).read(filePath, DataFileGenerationsTest::readContent).isPresent());
+    }
+
+    private static void write(DataFileGenerations generations, Path filePath, String content) throws IOException {
+        generations.write(filePath, outputStream -> outputStream.write(content.getBytes(UTF_8)));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static Optional<String> readContent(Path filePath) throws DataConversionException {
+        try {
+            String content = FileUtil.readFromFile(filePath);
+            if (content.startsWith(INVALID_CONTENT_PREFIX)) {
+                throw new DataConversionException(new Exception(content));
+            }
+            return Optional.of(content);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+}
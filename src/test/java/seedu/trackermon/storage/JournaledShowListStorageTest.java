@@ -0,0 +1,224 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.trackermon.testutil.TypicalShows.ALICE_IN_WONDERLAND;
+import static seedu.trackermon.testutil.TypicalShows.FRIENDS;
+import static seedu.trackermon.testutil.TypicalShows.HIMYM;
+import static seedu.trackermon.testutil.TypicalShows.WEATHERING_WITH_YOU;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.testutil.ShowBuilder;
+
+/**
+ * Contains integration tests (interaction with the Storage) for {@code JournaledShowListStorage}.
+ */
+public class JournaledShowListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that adding, editing, deleting and clearing shows only appends to the journal, and that the
+     * changes are replayed when the show list is read again.
+     */
+    @Test
+    public void saveShowList_addEditDeleteClear_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+        showList.setShow(FRIENDS, new ShowBuilder(FRIENDS).withName("Friends Reunion").withRating("4").build());
+        storage.saveShowList(showList);
+        showList.removeShow(ALICE_IN_WONDERLAND);
+        showList.removeShow(HIMYM);
+        storage.saveShowList(showList);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, readJournalLines(filePath).size());
+        assertEquals(showList, new ShowList(new JournaledShowListStorage(filePath).readShowList().get()));
+
+        showList.setShows(List.of());
+        storage.saveShowList(showList);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(showList, new ShowList(new JournaledShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that changes to a copy of the show list that was read, as the model keeps, are appended to the journal,
+     * and that a copy that can no longer follow the changes of the show list it was copied from is compacted.
+     */
+    @Test
+    public void saveShowList_copyOfReadShowList_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        new JournaledShowListStorage(filePath).saveShowList(getTypicalShowList());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath);
+        ShowList readShowList = new ShowList(storage.readShowList().get());
+        ShowList showList = new ShowList(readShowList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(2, readJournalLines(filePath).size());
+
+        ShowList otherCopy = new ShowList(readShowList);
+        readShowList.removeShow(HIMYM);
+        otherCopy.removeShow(FRIENDS);
+        storage.saveShowList(otherCopy);
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(otherCopy, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that reordering the shows rewrites the snapshot and starts a new journal.
+     */
+    @Test
+    public void saveShowList_sorted_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+
+        showList.sortShows(Comparator.comparing(show -> show.getName().getKey()));
+        storage.saveShowList(showList);
+
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(showList, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that the snapshot is rewritten once the journal reaches the compaction threshold.
+     */
+    @Test
+    public void saveShowList_journalPastThreshold_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath, false, 0, 1);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+
+        showList.removeShow(HIMYM);
+        storage.saveShowList(showList);
+
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(showList, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that flushing writes the changes in the journal to the snapshot.
+     */
+    @Test
+    public void flushShowList_journalHasEntries_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+
+        storage.flushShowList();
+
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(showList, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that a journal of an older snapshot is not replayed over a newer snapshot.
+     */
+    @Test
+    public void readShowList_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+
+        ShowList replacement = new ShowList();
+        replacement.addShow(HIMYM);
+        new JsonShowListStorage(filePath).saveShowList(replacement);
+
+        assertEquals(replacement, new ShowList(storage.readShowList().get()));
+
+        // The next save replaces the snapshot, since the journal cannot be appended to
+        replacement.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(replacement);
+        assertEquals(replacement, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that a partially written last journal entry is left out.
+     */
+    @Test
+    public void readShowList_partialLastEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+        showList.removeShow(HIMYM);
+        storage.saveShowList(showList);
+
+        Files.write(JournaledShowListStorage.getJournalFilePath(filePath), "{\"operation\":\"del".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(showList, new ShowList(new JournaledShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that a missing snapshot is read as an empty result, even if a journal exists.
+     */
+    @Test
+    public void readShowList_missingSnapshot_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        Files.write(JournaledShowListStorage.getJournalFilePath(filePath), "{}\n".getBytes(UTF_8));
+        assertFalse(new JournaledShowListStorage(filePath).readShowList().isPresent());
+    }
+
+    /**
+     * Tests that the journal is replayed over the first generation of the snapshot if the journal was started over
+     * it and the snapshot is missing, and that the next save writes a new snapshot.
+     */
+    @Test
+    public void readLatestValidShowList_snapshotMissing_replaysJournalOverGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        JournaledShowListStorage storage = new JournaledShowListStorage(filePath, false, 1,
+                JournaledShowListStorage.DEFAULT_COMPACTION_THRESHOLD);
+        ShowList showList = getTypicalShowList();
+        storage.saveShowList(showList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+
+        Files.move(filePath, DataFileGenerations.getGenerationPath(filePath, 1));
+
+        JournaledShowListStorage restartedStorage = new JournaledShowListStorage(filePath, false, 1,
+                JournaledShowListStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(showList, new ShowList(restartedStorage.readLatestValidShowList().get()));
+
+        showList.removeShow(HIMYM);
+        restartedStorage.saveShowList(showList);
+        assertEquals(showList, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+        assertEquals(showList, new ShowList(new JournaledShowListStorage(filePath).readShowList().get()));
+    }
+
+    private static List<String> readJournalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournaledShowListStorage.getJournalFilePath(filePath), UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.model.ShowList;
+import seedu.trackermon.model.show.Name;
+import seedu.trackermon.model.show.Show;
+import seedu.trackermon.testutil.TypicalShows;
+
+/**
+ * Contains tests for {@code JsonShowListReader}.
+ */
+public class JsonShowListReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableShowListTest");
+    private static final Path TYPICAL_SHOWS_FILE = TEST_DATA_FOLDER.resolve("typicalShowsShowList.json");
+    private static final Path INVALID_SHOW_FILE = TEST_DATA_FOLDER.resolve("invalidShowShowList.json");
+    private static final Path DUPLICATE_SHOW_FILE = TEST_DATA_FOLDER.resolve("duplicateShowShowList.json");
+
+    private static final String VALID_SHOW = "{\"name\": \"Valid Show\", \"status\": \"WATCHING\", "
+            + "\"tagged\": [], \"comment\": \"\", \"rating\": \"3\"}";
+
+    /**
+     * Tests that {@code TYPICAL_SHOWS_FILE} is read into the typical {@code ShowList}.
+     */
+    @Test
+    public void readShowList_typicalShowsFile_success() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(TYPICAL_SHOWS_FILE)) {
+            assertEquals(TypicalShows.getTypicalShowList(), JsonShowListReader.readShowList(inputStream));
+        }
+    }
+
+    /**
+     * Tests that an {@code IllegalValueException} is thrown when a show in the file is invalid.
+     */
+    @Test
+    public void readShowList_invalidShowFile_throwsIllegalValueException() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(INVALID_SHOW_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonShowListReader.readShowList(inputStream));
+        }
+    }
+
+    /**
+     * Tests that an {@code IllegalValueException} is thrown when the file contains duplicate shows.
+     */
+    @Test
+    public void readShowList_duplicateShows_throwsIllegalValueException() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(DUPLICATE_SHOW_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableShowList.MESSAGE_DUPLICATE_SHOW, () ->
+                    JsonShowListReader.readShowList(inputStream));
+        }
+    }
+
+    /**
+     * Tests that {@code readShows} returns duplicate shows without checking for them.
+     */
+    @Test
+    public void readShows_duplicateShows_returnsAllShows() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(DUPLICATE_SHOW_FILE)) {
+            List<Show> shows = JsonShowListReader.readShows(inputStream);
+            assertEquals(2, shows.size());
+            assertTrue(shows.get(0).isSameShow(shows.get(1)));
+        }
+    }
+
+    /**
+     * Tests that fields other than the shows are skipped, whatever their values are.
+     */
+    @Test
+    public void readShows_otherFields_skipped() throws Exception {
+        String json = "{\"version\": {\"major\": 1, \"tags\": [\"a\"]}, \"shows\": [" + VALID_SHOW + "], \"x\": null}";
+        List<Show> shows = JsonShowListReader.readShows(toInputStream(json));
+        assertEquals(1, shows.size());
+        assertEquals("Valid Show", shows.get(0).getName().toString());
+    }
+
+    /**
+     * Tests that a show list without shows is read as an empty {@code ShowList}.
+     */
+    @Test
+    public void readShowList_noShows_emptyShowList() throws Exception {
+        assertEquals(new ShowList(), JsonShowListReader.readShowList(toInputStream("{}")));
+        assertEquals(new ShowList(), JsonShowListReader.readShowList(toInputStream("{\"shows\": []}")));
+    }
+
+    /**
+     * Tests that an {@code IOException} is thrown when the data is not a json show list.
+     */
+    @Test
+    public void readShows_notShowList_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonShowListReader.readShows(toInputStream("not json format!")));
+        assertThrows(IOException.class, () -> JsonShowListReader.readShows(toInputStream("[]")));
+        assertThrows(IOException.class, () -> JsonShowListReader.readShows(toInputStream("{\"shows\": 1}")));
+        assertThrows(IOException.class, () -> JsonShowListReader.readShows(toInputStream("{\"shows\": [1]}")));
+    }
+
+    /**
+     * Tests that the shows before a truncated show are handled before an {@code IOException} is thrown.
+     */
+    @Test
+    public void readShows_truncated_throwsIoExceptionAfterEarlierShows() {
+        List<Show> shows = new ArrayList<>();
+        String json = "{\"shows\": [" + VALID_SHOW + ", {\"name\": \"Cut";
+        assertThrows(IOException.class, () -> JsonShowListReader.readShows(toInputStream(json), shows::add));
+        assertEquals(1, shows.size());
+    }
+
+    /**
+     * Tests that an invalid show is reported in preference to an error in the data after it.
+     */
+    @Test
+    public void readShows_invalidShowThenTruncated_throwsIllegalValueException() {
+        String json = "{\"shows\": [" + VALID_SHOW.replace("Valid Show", "Invalid Show $") + ", {\"name\": \"Cut";
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonShowListReader.readShows(toInputStream(json)));
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.trackermon.testutil.TypicalShows.WEATHERING_WITH_YOU;
 import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -109,6 +110,23 @@ public class JsonShowListStorageTest {
 
     }
 
+    /**
+     * Tests that {@code readLatestValidShowList} reads the previous version of the data file,
+     * when the data file cannot be read.
+     */
+    @Test
+    public void readLatestValidShowList_invalidDataFile_readsPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        ShowList original = getTypicalShowList();
+        JsonShowListStorage jsonShowListStorage = new JsonShowListStorage(filePath, false, 1);
+        jsonShowListStorage.saveShowList(original);
+        jsonShowListStorage.saveShowList(new ShowList());
+        Files.writeString(filePath, "{\"shows\": [");
+
+        assertThrows(DataConversionException.class, () -> jsonShowListStorage.readShowList());
+        assertEquals(original, new ShowList(jsonShowListStorage.readLatestValidShowList().get()));
+    }
+
     /**
      * Tests that a {@code NullPointerException} is thrown when {@code saveShowList}
      * attempts to save a null {@code ShowList}.
@@ -0,0 +1,57 @@
+package seedu.trackermon.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.commons.util.JsonUtil;
+import seedu.trackermon.model.ShowList;
+
+/**
+ * Contains tests for {@code JsonShowListWriter}.
+ */
+public class JsonShowListWriterTest {
+
+    /**
+     * Tests that shows written without pretty printing are on one line, and are read back unchanged.
+     */
+    @Test
+    public void writeShows_notPrettyPrinted_writtenOnOneLine() throws Exception {
+        ShowList showList = getTypicalShowList();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonShowListWriter.writeShows(showList.getShows(), outputStream, false);
+
+        assertFalse(outputStream.toString(UTF_8).contains("\n"));
+        assertEquals(showList, JsonShowListReader.readShowList(new ByteArrayInputStream(outputStream.toByteArray())));
+    }
+
+    /**
+     * Tests that shows written with pretty printing are in the same format as a {@code JsonSerializableShowList}.
+     */
+    @Test
+    public void writeShows_prettyPrinted_sameAsSerializableShowList() throws Exception {
+        ShowList showList = getTypicalShowList();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonShowListWriter.writeShows(showList.getShows(), outputStream, true);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableShowList(showList)), outputStream.toString(UTF_8));
+    }
+
+    /**
+     * Tests that an empty list of shows is written as an empty array of shows.
+     */
+    @Test
+    public void writeShows_noShows_emptyArray() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonShowListWriter.writeShows(List.of(), outputStream, false);
+
+        assertEquals("{\"shows\":[]}", outputStream.toString(UTF_8));
+    }
+}
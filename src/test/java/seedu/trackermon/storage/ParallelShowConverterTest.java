@@ -0,0 +1,90 @@
+package seedu.trackermon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.trackermon.commons.exceptions.IllegalValueException;
+import seedu.trackermon.model.show.Name;
+import seedu.trackermon.model.show.Show;
+
+/**
+ * Contains tests for {@code ParallelShowConverter}.
+ */
+public class ParallelShowConverterTest {
+
+    private static final int SHOW_COUNT = ParallelShowConverter.BATCH_SIZE * 5 / 2;
+
+    /**
+     * Tests that shows spanning several batches are handled in the order they were added.
+     */
+    @Test
+    public void finish_severalBatches_handledInOrder() throws Exception {
+        List<Show> shows = new ArrayList<>();
+        ParallelShowConverter converter = new ParallelShowConverter(shows::add);
+        for (int i = 0; i < SHOW_COUNT; i++) {
+            converter.add(createShow("Show " + i, "3"));
+        }
+        converter.finish();
+
+        assertEquals(SHOW_COUNT, shows.size());
+        for (int i = 0; i < SHOW_COUNT; i++) {
+            assertEquals(new Name("Show " + i), shows.get(i).getName());
+        }
+    }
+
+    /**
+     * Tests that the first invalid show is reported after every show before it has been handled, even if a later
+     * show in another batch is also invalid.
+     */
+    @Test
+    public void finish_invalidShows_firstInvalidShowReported() {
+        int firstInvalid = ParallelShowConverter.BATCH_SIZE + 7;
+        List<Show> shows = new ArrayList<>();
+        ParallelShowConverter converter = new ParallelShowConverter(shows::add);
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> {
+            for (int i = 0; i < SHOW_COUNT; i++) {
+                if (i == firstInvalid) {
+                    converter.add(createShow("Invalid Show $", "3"));
+                } else if (i == SHOW_COUNT - 1) {
+                    converter.add(createShow("Show " + i, "6"));
+                } else {
+                    converter.add(createShow("Show " + i, "3"));
+                }
+            }
+            converter.finish();
+        });
+        assertEquals(firstInvalid, shows.size());
+    }
+
+    /**
+     * Tests that an exception thrown by the handler stops the shows after it from being handled.
+     */
+    @Test
+    public void finish_handlerThrows_laterShowsNotHandled() {
+        List<Show> shows = new ArrayList<>();
+        ParallelShowConverter converter = new ParallelShowConverter(show -> {
+            if (shows.size() == 3) {
+                throw new IllegalValueException(JsonSerializableShowList.MESSAGE_DUPLICATE_SHOW);
+            }
+            shows.add(show);
+        });
+
+        assertThrows(IllegalValueException.class, JsonSerializableShowList.MESSAGE_DUPLICATE_SHOW, () -> {
+            for (int i = 0; i < SHOW_COUNT; i++) {
+                converter.add(createShow("Show " + i, "3"));
+            }
+            converter.finish();
+        });
+        assertEquals(3, shows.size());
+    }
+
+    private static JsonAdaptedShow createShow(String name, String rating) {
+        return new JsonAdaptedShow(name, "WATCHING", new ArrayList<>(), "", rating);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.trackermon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.commons.core.ShowListFormat;
+import seedu.trackermon.commons.exceptions.DataConversionException;
+import seedu.trackermon.model.ShowList;
+
+/**
+ * Contains tests for {@code ShowListConverter}.
+ */
+public class ShowListConverterTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonShowListStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that a json data file converted to binary and back is unchanged.
+     */
+    @Test
+    public void convert_jsonToBinaryAndBack_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempShowList.json");
+        Path binaryFilePath = testFolder.resolve("TempShowList.bin");
+        Path convertedFilePath = testFolder.resolve("Converted.json");
+        ShowList original = getTypicalShowList();
+        new JsonShowListStorage(jsonFilePath).saveShowList(original);
+
+        assertEquals(original.getShows().size(),
+                ShowListConverter.convert(jsonFilePath, binaryFilePath, ShowListFormat.BINARY));
+        assertEquals(original, new ShowList(new BinaryShowListStorage(binaryFilePath).readShowList().get()));
+
+        ShowListConverter.convert(binaryFilePath, convertedFilePath, ShowListFormat.JSON);
+        assertEquals(original, new ShowList(new JsonShowListStorage(convertedFilePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that converting a missing or invalid data file throws an exception.
+     */
+    @Test
+    public void convert_invalidSource_throwsException() {
+        Path target = testFolder.resolve("Converted.bin");
+        assertThrows(IOException.class, () -> ShowListConverter.convert(testFolder.resolve("NonExistentFile.json"),
+                target, ShowListFormat.BINARY));
+        assertThrows(DataConversionException.class, () -> ShowListConverter.convert(
+                TEST_DATA_FOLDER.resolve("notJsonFormatShowList.json"), target, ShowListFormat.BINARY));
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.trackermon.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.trackermon.testutil.Assert.assertThrows;
+import static seedu.trackermon.testutil.TypicalShows.ALICE_IN_WONDERLAND;
+import static seedu.trackermon.testutil.TypicalShows.HIMYM;
+import static seedu.trackermon.testutil.TypicalShows.WEATHERING_WITH_YOU;
+import static seedu.trackermon.testutil.TypicalShows.getTypicalShowList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.trackermon.model.ReadOnlyShowList;
+import seedu.trackermon.model.ShowList;
+
+/**
+ * Contains tests for {@code WriteBehindShowListStorage}.
+ */
+public class WriteBehindShowListStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Tests that a saved show list can be read back once it has been written.
+     */
+    @Test
+    public void readShowList_afterSave_returnsSavedShowList() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        WriteBehindShowListStorage storage = new WriteBehindShowListStorage(new JsonShowListStorage(filePath));
+        ShowList original = getTypicalShowList();
+
+        storage.saveShowList(original);
+        assertEquals(original, new ShowList(storage.readShowList().get()));
+
+        original.addShow(WEATHERING_WITH_YOU);
+        original.removeShow(ALICE_IN_WONDERLAND);
+        storage.saveShowList(original);
+        assertEquals(original, new ShowList(storage.readShowList().get()));
+    }
+
+    /**
+     * Tests that the show list is written as it was when it was saved, even if it is modified before the write.
+     */
+    @Test
+    public void saveShowList_modifiedAfterSave_writesSnapshot() throws Exception {
+        BlockingShowListStorageStub stub = new BlockingShowListStorageStub();
+        WriteBehindShowListStorage storage = new WriteBehindShowListStorage(stub);
+        ShowList showList = getTypicalShowList();
+        ShowList expected = new ShowList(showList);
+
+        storage.saveShowList(showList);
+        showList.removeShow(HIMYM);
+        stub.release();
+        storage.flushShowList();
+
+        assertEquals(Collections.singletonList(expected), stub.getWrittenShowLists());
+    }
+
+    /**
+     * Tests that saves made while a write is in progress are written once, as the latest show list.
+     */
+    @Test
+    public void saveShowList_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        BlockingShowListStorageStub stub = new BlockingShowListStorageStub();
+        WriteBehindShowListStorage storage = new WriteBehindShowListStorage(stub);
+        ShowList showList = new ShowList();
+
+        storage.saveShowList(showList);
+        ShowList first = new ShowList(showList);
+        stub.awaitWriteStarted();
+        showList.addShow(ALICE_IN_WONDERLAND);
+        storage.saveShowList(showList);
+        showList.addShow(HIMYM);
+        storage.saveShowList(showList);
+        showList.addShow(WEATHERING_WITH_YOU);
+        storage.saveShowList(showList);
+        stub.release();
+        storage.flushShowList();
+
+        assertEquals(List.of(first, showList), stub.getWrittenShowLists());
+    }
+
+    /**
+     * Tests that a failed write is passed to the save failure handler, and is written again by the next flush.
+     */
+    @Test
+    public void flushShowList_writeFailedOnce_retriedByFlush() throws Exception {
+        Path filePath = testFolder.resolve("TempShowList.json");
+        List<IOException> reportedFailures = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindShowListStorage storage = new WriteBehindShowListStorage(
+                new JsonShowListIoExceptionThrowingStub(filePath, 1));
+        storage.setSaveFailureHandler(reportedFailures::add);
+        ShowList showList = getTypicalShowList();
+
+        storage.saveShowList(showList);
+        storage.flushShowList();
+        assertEquals(Collections.singletonList(DUMMY_IO_EXCEPTION), reportedFailures);
+        assertEquals(showList, new ShowList(new JsonShowListStorage(filePath).readShowList().get()));
+    }
+
+    /**
+     * Tests that a write that keeps failing is thrown by every flush, and is kept to be written again each time.
+     */
+    @Test
+    public void flushShowList_writeKeepsFailing_throwsUntilWritten() throws Exception {
+        List<IOException> reportedFailures = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindShowListStorage storage = new WriteBehindShowListStorage(
+                new JsonShowListIoExceptionThrowingStub(testFolder.resolve("ioException.json"), Integer.MAX_VALUE));
+        storage.setSaveFailureHandler(reportedFailures::add);
+
+        storage.saveShowList(getTypicalShowList());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flushShowList);
+        assertEquals(2, reportedFailures.size());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flushShowList);
+        assertEquals(3, reportedFailures.size());
+    }
+
+    /**
+     * A stub that records the show lists written to it, and does not finish its first write until released.
+     */
+    private static class BlockingShowListStorageStub implements ShowListStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final List<ShowList> writtenShowLists = Collections.synchronizedList(new ArrayList<>());
+
+        void awaitWriteStarted() throws InterruptedException {
+            writeStarted.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<ShowList> getWrittenShowLists() {
+            return writtenShowLists;
+        }
+
+        @Override
+        public Path getShowListFilePath() {
+            return Path.of("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyShowList> readShowList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyShowList> readShowList(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyShowList> readLatestValidShowList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveShowList(ReadOnlyShowList showList) throws IOException {
+            saveShowList(showList, getShowListFilePath());
+        }
+
+        @Override
+        public void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            writtenShowLists.add(new ShowList(showList));
+        }
+
+        @Override
+        public void flushShowList() {}
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} the first {@code failureCount} times the save method is called.
+     */
+    private static class JsonShowListIoExceptionThrowingStub extends JsonShowListStorage {
+        private int failureCount;
+
+        private JsonShowListIoExceptionThrowingStub(Path filePath, int failureCount) {
+            super(filePath);
+            this.failureCount = failureCount;
+        }
+
+        @Override
+        public void saveShowList(ReadOnlyShowList showList, Path filePath) throws IOException {
+            if (failureCount > 0) {
+                failureCount--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveShowList(showList, filePath);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.trackermon.testutil;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.trackermon.logic.commands.FindCommand.FindShowDescriptor;
+import seedu.trackermon.model.show.Rating;
+import seedu.trackermon.model.show.Status;
+
+/**
+ * A utility class to help with building FindShowDescriptor objects.
+ */
+public class FindShowDescriptorBuilder {
+
+    private FindShowDescriptor descriptor;
+
+    public FindShowDescriptorBuilder() {
+        descriptor = new FindShowDescriptor();
+    }
+
+    /**
+     * Sets the {@code Name} keywords of the {@code FindShowDescriptor} that we are building.
+     */
+    public FindShowDescriptorBuilder withNameKeywords(String... keywords) {
+        descriptor.setNameKeywords(Arrays.asList(keywords));
+        return this;
+    }
+
+    /**
+     * Parses the {@code statuses} into a {@code Set<Status>} and set it to the {@code FindShowDescriptor}
+     * that we are building.
+     */
+    public FindShowDescriptorBuilder withStatuses(String... statuses) {
+        Set<Status> statusSet = Stream.of(statuses).map(Status::getStatus).collect(Collectors.toSet());
+        descriptor.setStatuses(statusSet);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Tag} keywords of the {@code FindShowDescriptor} that we are building.
+     */
+    public FindShowDescriptorBuilder withTagKeywords(String... keywords) {
+        descriptor.setTagKeywords(Arrays.asList(keywords));
+        return this;
+    }
+
+    /**
+     * Parses the {@code ratings} into a {@code Set<Rating>} and set it to the {@code FindShowDescriptor}
+     * that we are building.
+     */
+    public FindShowDescriptorBuilder withRatings(String... ratings) {
+        Set<Rating> ratingSet = Stream.of(ratings).map(Rating::new).collect(Collectors.toSet());
+        descriptor.setRatings(ratingSet);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Comment} keywords of the {@code FindShowDescriptor} that we are building.
+     */
+    public FindShowDescriptorBuilder withCommentKeywords(String... keywords) {
+        descriptor.setCommentKeywords(Arrays.asList(keywords));
+        return this;
+    }
+
+    public FindShowDescriptor build() {
+        return descriptor;
+    }
+}